@@ -28,35 +28,40 @@ import com.atlassian.confluence.user.ConfluenceUser;
 import com.atlassian.confluence.user.UserAccessor;
 import com.atlassian.confluence.user.actions.ProfilePictureInfo;
 import com.atlassian.sal.api.user.UserKey;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onlyoffice.client.DocumentServerClient;
 import com.onlyoffice.manager.settings.SettingsManager;
-import com.onlyoffice.manager.security.JwtManager;
 import com.onlyoffice.model.common.User;
 import com.onlyoffice.model.documenteditor.config.document.ReferenceData;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.managers.cache.AvatarCacheManager;
+import onlyoffice.managers.users.UserIndexEntry;
+import onlyoffice.managers.users.UserIndexManager;
+import onlyoffice.managers.users.UserSearchResult;
+import onlyoffice.model.dto.AttachmentDataRequest;
+import onlyoffice.model.dto.ReferenceDataRequest;
+import onlyoffice.model.dto.SaveAsRequest;
 import onlyoffice.model.dto.UsersInfoRequest;
 import onlyoffice.model.dto.UsersInfoResponse;
+import onlyoffice.model.dto.UsersSearchRequest;
+import onlyoffice.model.dto.UsersSearchResponse;
+import onlyoffice.model.dto.UsersSearchUser;
 import onlyoffice.sdk.manager.document.DocumentManager;
+import onlyoffice.sdk.manager.security.JwtManager;
 import onlyoffice.sdk.manager.url.UrlManager;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.json.JsonUtil;
 import onlyoffice.utils.parsing.ParsingUtil;
-import org.apache.commons.io.IOUtils;
+import onlyoffice.utils.stream.SpoolOutputStream;
+import onlyoffice.utils.stream.StreamUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONArray;
-import org.json.JSONObject;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintWriter;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +71,9 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private final Logger log = LogManager.getLogger("onlyoffice.OnlyOfficeAPIServlet");
 
+    private static final int DEFAULT_SEARCH_COUNT = 50;
+    private static final int MAX_SEARCH_COUNT = 100;
+
     private final SystemInformationService sysInfoService;
     private final UserAccessor userAccessor;
     private final SettingsManager settingsManager;
@@ -76,15 +84,19 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
     private final UrlManager urlManager;
     private final DocumentServerClient documentServerClient;
     private final PermissionManager permissionManager;
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StreamUtil streamUtil;
+    private final JsonUtil jsonUtil;
+    private final AvatarCacheManager avatarCacheManager;
+    private final UserIndexManager userIndexManager;
 
     public OnlyOfficeAPIServlet(final SystemInformationService sysInfoService, final UserAccessor userAccessor,
                                 final SettingsManager settingsManager, final JwtManager jwtManager,
                                 final DocumentManager documentManager, final AttachmentUtil attachmentUtil,
                                 final ParsingUtil parsingUtil, final UrlManager urlManager,
                                 final DocumentServerClient documentServerClient,
-                                final PermissionManager permissionManager) {
+                                final PermissionManager permissionManager, final StreamUtil streamUtil,
+                                final JsonUtil jsonUtil, final AvatarCacheManager avatarCacheManager,
+                                final UserIndexManager userIndexManager) {
         this.sysInfoService = sysInfoService;
         this.userAccessor = userAccessor;
         this.settingsManager = settingsManager;
@@ -95,6 +107,10 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
         this.urlManager = urlManager;
         this.documentServerClient = documentServerClient;
         this.permissionManager = permissionManager;
+        this.streamUtil = streamUtil;
+        this.jsonUtil = jsonUtil;
+        this.avatarCacheManager = avatarCacheManager;
+        this.userIndexManager = userIndexManager;
     }
 
     @Override
@@ -115,6 +131,9 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
                 case "users-info":
                     usersInfo(request, response);
                     break;
+                case "users-search":
+                    usersSearch(request, response);
+                    break;
                 default:
                     response.sendError(HttpServletResponse.SC_NOT_FOUND);
                     return;
@@ -133,17 +152,20 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
             return;
         }
 
-        InputStream requestStream = request.getInputStream();
-        String body = parsingUtil.getBody(requestStream);
-
         try {
-            JSONObject bodyJson = new JSONObject(body);
-            String downloadUrl = bodyJson.getString("url");
-            String title = bodyJson.getString("title");
-            String ext = bodyJson.getString("ext");
-            String pageIdString = bodyJson.getString("pageId");
+            SaveAsRequest saveAsRequest = parsingUtil.getBody(request.getInputStream(), SaveAsRequest.class);
+
+            if (saveAsRequest == null) {
+                throw new IllegalArgumentException("requestBody is empty");
+            }
+
+            String downloadUrl = saveAsRequest.getUrl();
+            String title = saveAsRequest.getTitle();
+            String ext = saveAsRequest.getExt();
+            String pageIdString = saveAsRequest.getPageId();
 
-            if (downloadUrl.isEmpty() || title.isEmpty() || ext.isEmpty() || pageIdString.isEmpty()) {
+            if (downloadUrl == null || downloadUrl.isEmpty() || title == null || title.isEmpty()
+                    || ext == null || ext.isEmpty() || pageIdString == null || pageIdString.isEmpty()) {
                 response.sendError(HttpServletResponse.SC_NOT_FOUND);
                 return;
             }
@@ -155,23 +177,19 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
                 return;
             }
 
-            Path tempFile = null;
+            SpoolOutputStream spool = streamUtil.createSpool();
             try {
-                tempFile = Files.createTempFile(null, null);
-
-                documentServerClient.getFile(
-                        downloadUrl,
-                        Files.newOutputStream(tempFile)
-                );
+                documentServerClient.getFile(downloadUrl, spool);
 
                 String fileName = attachmentUtil.getCorrectName(title, ext, pageId);
                 String mimeType = documentManager.getMimeType(fileName);
 
-                attachmentUtil.createNewAttachment(fileName, mimeType, tempFile.toFile(), pageId, user);
-            } finally {
-                if (tempFile != null) {
-                    Files.deleteIfExists(tempFile);
+                try (InputStream inputStream = spool.getInputStream()) {
+                    attachmentUtil.createNewAttachment(fileName, mimeType, inputStream, spool.getSize(), pageId,
+                            user);
                 }
+            } finally {
+                spool.discard();
             }
         } catch (Exception e) {
             throw new IOException(e.getMessage());
@@ -187,40 +205,40 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
             return;
         }
 
-        InputStream requestStream = request.getInputStream();
-        String body = parsingUtil.getBody(requestStream);
-
         try {
-            JSONObject bodyJson = new JSONObject(body);
-            JSONArray attachments = bodyJson.getJSONArray("attachments");
+            AttachmentDataRequest attachmentDataRequest = parsingUtil.getBody(request.getInputStream(),
+                    AttachmentDataRequest.class);
 
-            List<Object> responseJson = new ArrayList<>();
+            if (attachmentDataRequest == null) {
+                throw new IllegalArgumentException("requestBody is empty");
+            }
 
-            for (int i = 0; i < attachments.length(); i++) {
-                Long attachmentId = attachments.getLong(i);
+            List<Attachment> attachments = attachmentUtil.getPermittedAttachments(
+                    attachmentDataRequest.getAttachments(), user);
 
-                if (attachmentUtil.checkAccess(attachmentId, user, false)) {
-                    Map<String, String> data = new HashMap<>();
+            List<Map<String, String>> responseJson = new ArrayList<>(attachments.size());
 
-                    String documentName = documentManager.getDocumentName(String.valueOf(attachmentId));
-                    String fileType = documentManager.getExtension(documentName);
+            for (Attachment attachment : attachments) {
+                Map<String, String> data = new HashMap<>();
 
-                    if (!bodyJson.get("command").equals(null)) {
-                        data.put("command", bodyJson.getString("command"));
-                    }
-                    data.put("fileType", fileType);
-                    data.put("url", urlManager.getFileUrl(String.valueOf(attachmentId)));
-                    if (settingsManager.isSecurityEnabled()) {
-                        data.put("token", jwtManager.createToken(data));
-                    }
+                if (attachmentDataRequest.getCommand() != null) {
+                    data.put("command", attachmentDataRequest.getCommand());
+                }
+                data.put("fileType", documentManager.getExtension(attachment.getFileName()));
+                data.put("url", urlManager.getFileUrl(String.valueOf(attachment.getId())));
+
+                responseJson.add(data);
+            }
+
+            if (settingsManager.isSecurityEnabled()) {
+                List<String> tokens = jwtManager.createTokens(responseJson);
 
-                    responseJson.add(data);
+                for (int i = 0; i < responseJson.size(); i++) {
+                    responseJson.get(i).put("token", tokens.get(i));
                 }
             }
 
-            response.setContentType("application/json");
-            PrintWriter writer = response.getWriter();
-            writer.write(objectMapper.writeValueAsString(responseJson));
+            jsonUtil.writeJson(request, response, responseJson);
         } catch (Exception e) {
             throw new IOException(e.getMessage());
         }
@@ -235,17 +253,19 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
             return;
         }
 
-        InputStream requestStream = request.getInputStream();
-        String body = parsingUtil.getBody(requestStream);
-
         try {
-            JSONObject bodyJson = new JSONObject(body);
+            ReferenceDataRequest referenceDataRequest = parsingUtil.getBody(request.getInputStream(),
+                    ReferenceDataRequest.class);
+
+            if (referenceDataRequest == null) {
+                throw new IllegalArgumentException("requestBody is empty");
+            }
+
             ReferenceData referenceData = new ReferenceData();
             Long attachmentId = null;
 
-            if (bodyJson.has("referenceData")) {
-                String referenceDataString = bodyJson.getJSONObject("referenceData").toString();
-                referenceData = objectMapper.readValue(referenceDataString, ReferenceData.class);
+            if (referenceDataRequest.getReferenceData() != null) {
+                referenceData = referenceDataRequest.getReferenceData();
                 if (referenceData.getInstanceId().equals(sysInfoService.getConfluenceInfo().getBaseUrl())) {
                     attachmentId = Long.valueOf(referenceData.getFileKey());
                 }
@@ -258,7 +278,7 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
 
                 if (pageIdString != null && !pageIdString.isEmpty()) {
                     Long pageId = Long.parseLong(pageIdString);
-                    attachment = attachmentUtil.getAttachmentByName(bodyJson.getString("path"), pageId);
+                    attachment = attachmentUtil.getAttachmentByName(referenceDataRequest.getPath(), pageId);
                     if (attachment != null) {
                         attachmentId = attachment.getId();
                         referenceData.setFileKey(String.valueOf(attachment.getId()));
@@ -291,9 +311,7 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
                 responseMap.put("token", jwtManager.createToken(responseMap));
             }
 
-            response.setContentType("application/json");
-            PrintWriter writer = response.getWriter();
-            writer.write(objectMapper.writeValueAsString(responseMap));
+            jsonUtil.writeJson(request, response, responseMap);
         } catch (Exception e) {
             throw new IOException(e.getMessage(), e);
         }
@@ -307,18 +325,10 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
             return;
         }
 
-        UsersInfoRequest usersInfoRequest = new UsersInfoRequest();
+        UsersInfoRequest usersInfoRequest = parsingUtil.getBody(request.getInputStream(), UsersInfoRequest.class);
 
-        try (InputStream requestStream = request.getInputStream()) {
-            String bodyString = parsingUtil.getBody(requestStream);
-
-            if (bodyString.isEmpty()) {
-                throw new IllegalArgumentException("requestBody is empty");
-            }
-
-            usersInfoRequest = objectMapper.readValue(bodyString, UsersInfoRequest.class);
-        } catch (IOException e) {
-            throw e;
+        if (usersInfoRequest == null) {
+            throw new IllegalArgumentException("requestBody is empty");
         }
 
         List<User> users = new ArrayList<>();
@@ -337,17 +347,7 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
                         .name(confluenceUser.getFullName())
                         .build();
 
-                ProfilePictureInfo profilePictureInfo = userAccessor.getUserProfilePicture(confluenceUser);
-
-                if (profilePictureInfo != null && !profilePictureInfo.isDefault()) {
-                    try (InputStream pictureInputStream = profilePictureInfo.getBytes()) {
-                        byte[] pictureByteArray = IOUtils.toByteArray(pictureInputStream);
-                        String pictureBase64 = Base64.getEncoder().encodeToString(pictureByteArray);
-                        String contentType = profilePictureInfo.getContentType();
-
-                        user.setImage("data:" + contentType + ";base64," + pictureBase64);
-                    }
-                }
+                user.setImage(getAvatarUrl(confluenceUser));
 
                 users.add(user);
             }
@@ -356,8 +356,62 @@ public class OnlyOfficeAPIServlet extends HttpServlet {
         UsersInfoResponse usersInfoResponse = new UsersInfoResponse();
         usersInfoResponse.setUsers(users);
 
-        response.setContentType("application/json");
-        PrintWriter writer = response.getWriter();
-        writer.write(objectMapper.writeValueAsString(usersInfoResponse));
+        jsonUtil.writeJson(request, response, usersInfoResponse);
+    }
+
+    private void usersSearch(final HttpServletRequest request, final HttpServletResponse response)
+            throws IOException {
+        ConfluenceUser currentUser = AuthenticatedUserThreadLocal.get();
+
+        if (!permissionManager.hasPermission(currentUser, Permission.VIEW, PermissionManager.TARGET_PEOPLE_DIRECTORY)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        UsersSearchRequest usersSearchRequest = parsingUtil.getBody(request.getInputStream(),
+                UsersSearchRequest.class);
+
+        if (usersSearchRequest == null) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        int from = usersSearchRequest.getFrom() != null ? usersSearchRequest.getFrom() : 0;
+        int count = usersSearchRequest.getCount() != null ? usersSearchRequest.getCount() : DEFAULT_SEARCH_COUNT;
+        count = Math.max(0, Math.min(count, MAX_SEARCH_COUNT));
+
+        UserSearchResult result = userIndexManager.search(usersSearchRequest.getSearch(), from, count);
+
+        List<UsersSearchUser> users = new ArrayList<>();
+
+        for (UserIndexEntry entry : result.getUsers()) {
+            UsersSearchUser user = new UsersSearchUser();
+            user.setId(entry.getKey());
+            user.setName(entry.getFullName());
+            user.setEmail(entry.getEmail());
+
+            if (entry.getAvatarVersion() != null) {
+                user.setImage(urlManager.getAvatarUrl(entry.getKey(), entry.getAvatarVersion()));
+            }
+
+            users.add(user);
+        }
+
+        UsersSearchResponse usersSearchResponse = new UsersSearchResponse();
+        usersSearchResponse.setUsers(users);
+        usersSearchResponse.setTotal(result.getTotal());
+
+        jsonUtil.writeJson(request, response, usersSearchResponse);
+    }
+
+    private String getAvatarUrl(final ConfluenceUser user) {
+        ProfilePictureInfo profilePictureInfo = userAccessor.getUserProfilePicture(user);
+
+        if (profilePictureInfo == null || profilePictureInfo.isDefault()) {
+            return null;
+        }
+
+        return urlManager.getAvatarUrl(user.getKey().getStringValue(),
+                avatarCacheManager.getVersion(profilePictureInfo));
     }
 }
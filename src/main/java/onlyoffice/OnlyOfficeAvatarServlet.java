@@ -0,0 +1,99 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice;
+
+import com.atlassian.annotations.security.AnonymousSiteAccess;
+import com.atlassian.confluence.user.ConfluenceUser;
+import com.atlassian.confluence.user.UserAccessor;
+import com.atlassian.confluence.user.actions.ProfilePictureInfo;
+import com.atlassian.sal.api.user.UserKey;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.managers.cache.Avatar;
+import onlyoffice.managers.cache.AvatarCacheManager;
+import onlyoffice.sdk.manager.security.JwtManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.json.JSONObject;
+
+import java.io.IOException;
+
+@AnonymousSiteAccess
+public class OnlyOfficeAvatarServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private final Logger log = LogManager.getLogger("onlyoffice.OnlyOfficeAvatarServlet");
+
+    private static final int MAX_AGE = 86400;
+
+    private final UserAccessor userAccessor;
+    private final JwtManager jwtManager;
+    private final AvatarCacheManager avatarCacheManager;
+
+    public OnlyOfficeAvatarServlet(final UserAccessor userAccessor, final JwtManager jwtManager,
+                                   final AvatarCacheManager avatarCacheManager) {
+        this.userAccessor = userAccessor;
+        this.jwtManager = jwtManager;
+        this.avatarCacheManager = avatarCacheManager;
+    }
+
+    @Override
+    public void doGet(final HttpServletRequest request, final HttpServletResponse response)
+            throws ServletException, IOException {
+        String token = request.getParameter("token");
+        JSONObject bodyFromToken;
+
+        try {
+            bodyFromToken = new JSONObject(jwtManager.verifyInternalToken(token));
+
+            if (!bodyFromToken.getString("action").equals("avatar")) {
+                throw new SecurityException();
+            }
+        } catch (Exception e) {
+            throw new SecurityException("Invalid link token!");
+        }
+
+        String userKeyString = bodyFromToken.getString("userKey");
+
+        ConfluenceUser user = userAccessor.getUserByKey(new UserKey(userKeyString));
+        ProfilePictureInfo profilePictureInfo = user != null ? userAccessor.getUserProfilePicture(user) : null;
+
+        if (profilePictureInfo == null || profilePictureInfo.isDefault()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String eTag = "\"" + avatarCacheManager.getVersion(profilePictureInfo) + "\"";
+
+        response.setHeader("ETag", eTag);
+        response.setHeader("Cache-Control", "private, max-age=" + MAX_AGE);
+
+        if (eTag.equals(request.getHeader("If-None-Match"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        Avatar avatar = avatarCacheManager.getAvatar(userKeyString, profilePictureInfo);
+
+        response.setContentType(avatar.getContentType());
+        response.setContentLength(avatar.getData().length);
+        response.getOutputStream().write(avatar.getData());
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice;
+
+import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
+import com.atlassian.sal.api.user.UserManager;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.managers.convert.BulkConversionJob;
+import onlyoffice.managers.convert.BulkConversionManager;
+import onlyoffice.utils.json.JsonUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class OnlyOfficeBulkConversionServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final String XSRF_HEADER = "X-Atlassian-Token";
+    private static final String XSRF_HEADER_VALUE = "no-check";
+    private final Logger log = LogManager.getLogger("onlyoffice.OnlyOfficeBulkConversionServlet");
+
+    private final UserManager userManager;
+    private final BulkConversionManager bulkConversionManager;
+    private final JsonUtil jsonUtil;
+
+    public OnlyOfficeBulkConversionServlet(final UserManager userManager,
+                                           final BulkConversionManager bulkConversionManager, final JsonUtil jsonUtil) {
+        this.userManager = userManager;
+        this.bulkConversionManager = bulkConversionManager;
+        this.jsonUtil = jsonUtil;
+    }
+
+    @Override
+    public void doGet(final HttpServletRequest request, final HttpServletResponse response)
+            throws ServletException, IOException {
+        if (!isSystemAdmin(request)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("jobs", bulkConversionManager.getJobs());
+
+        jsonUtil.writeJson(request, response, result);
+    }
+
+    @Override
+    public void doPost(final HttpServletRequest request, final HttpServletResponse response)
+            throws ServletException, IOException {
+        if (!isSystemAdmin(request) || !hasXsrfHeader(request)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        String action = request.getParameter("action");
+        String id = request.getParameter("id");
+
+        if (action == null) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        Map<String, Object> result = new HashMap<>();
+
+        if (action.equalsIgnoreCase("start")) {
+            String spaceKey = request.getParameter("spaceKey");
+            String pageIdString = request.getParameter("pageId");
+            boolean includeChildren = Boolean.parseBoolean(request.getParameter("includeChildren"));
+
+            BulkConversionJob job;
+            try {
+                Long pageId = pageIdString != null && !pageIdString.isEmpty() ? Long.parseLong(pageIdString) : null;
+                job = bulkConversionManager.start(spaceKey, pageId, includeChildren,
+                        AuthenticatedUserThreadLocal.get());
+            } catch (IllegalArgumentException e) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+                return;
+            }
+
+            id = job.getId();
+            result.put("id", id);
+        } else {
+            if (id == null || id.isEmpty()) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+                return;
+            }
+
+            boolean success;
+            switch (action.toLowerCase()) {
+                case "pause":
+                    success = bulkConversionManager.pause(id);
+                    break;
+                case "resume":
+                    success = bulkConversionManager.resume(id);
+                    break;
+                case "cancel":
+                    success = bulkConversionManager.cancel(id);
+                    break;
+                default:
+                    response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+                    return;
+            }
+
+            if (!success) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+        }
+
+        log.info("Bulk conversion " + id + ": " + action + " by " + userManager.getRemoteUsername(request));
+
+        result.put("success", true);
+
+        jsonUtil.writeJson(request, response, result);
+    }
+
+    private boolean hasXsrfHeader(final HttpServletRequest request) {
+        return XSRF_HEADER_VALUE.equals(request.getHeader(XSRF_HEADER));
+    }
+
+    private boolean isSystemAdmin(final HttpServletRequest request) {
+        String username = userManager.getRemoteUsername(request);
+
+        return username != null && userManager.isSystemAdmin(username);
+    }
+}
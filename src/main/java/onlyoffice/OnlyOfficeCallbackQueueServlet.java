@@ -0,0 +1,128 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice;
+
+import com.atlassian.sal.api.user.UserManager;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.managers.callback.CallbackIdempotencyManager;
+import onlyoffice.managers.callback.CallbackJobState;
+import onlyoffice.managers.callback.CallbackQueueManager;
+import onlyoffice.utils.json.JsonUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class OnlyOfficeCallbackQueueServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final String XSRF_HEADER = "X-Atlassian-Token";
+    private static final String XSRF_HEADER_VALUE = "no-check";
+    private final Logger log = LogManager.getLogger("onlyoffice.OnlyOfficeCallbackQueueServlet");
+
+    private final UserManager userManager;
+    private final CallbackQueueManager callbackQueueManager;
+    private final CallbackIdempotencyManager callbackIdempotencyManager;
+    private final JsonUtil jsonUtil;
+
+    public OnlyOfficeCallbackQueueServlet(final UserManager userManager,
+                                          final CallbackQueueManager callbackQueueManager,
+                                          final CallbackIdempotencyManager callbackIdempotencyManager,
+                                          final JsonUtil jsonUtil) {
+        this.userManager = userManager;
+        this.callbackQueueManager = callbackQueueManager;
+        this.callbackIdempotencyManager = callbackIdempotencyManager;
+        this.jsonUtil = jsonUtil;
+    }
+
+    @Override
+    public void doGet(final HttpServletRequest request, final HttpServletResponse response)
+            throws ServletException, IOException {
+        if (!isSystemAdmin(request)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        Map<String, Object> result = new HashMap<>();
+
+        result.put("statistics", callbackQueueManager.getStatistics());
+        result.put("idempotency", callbackIdempotencyManager.getStatistics());
+        for (CallbackJobState state : CallbackJobState.values()) {
+            result.put(state.getDirectoryName(), callbackQueueManager.getJobs(state));
+        }
+
+        jsonUtil.writeJson(request, response, result);
+    }
+
+    @Override
+    public void doPost(final HttpServletRequest request, final HttpServletResponse response)
+            throws ServletException, IOException {
+        if (!isSystemAdmin(request) || !hasXsrfHeader(request)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        String action = request.getParameter("action");
+        String id = request.getParameter("id");
+
+        if (action == null || id == null || id.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        boolean success;
+        switch (action.toLowerCase()) {
+            case "retry":
+                success = callbackQueueManager.retry(id);
+                break;
+            case "delete":
+                success = callbackQueueManager.delete(id);
+                break;
+            default:
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+                return;
+        }
+
+        if (!success) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        log.info("Callback job " + id + ": " + action + " by " + userManager.getRemoteUsername(request));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+
+        jsonUtil.writeJson(request, response, result);
+    }
+
+    private boolean hasXsrfHeader(final HttpServletRequest request) {
+        return XSRF_HEADER_VALUE.equals(request.getHeader(XSRF_HEADER));
+    }
+
+    private boolean isSystemAdmin(final HttpServletRequest request) {
+        String username = userManager.getRemoteUsername(request);
+
+        return username != null && userManager.isSystemAdmin(username);
+    }
+}
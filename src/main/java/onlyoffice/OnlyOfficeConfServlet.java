@@ -23,7 +23,6 @@ import com.atlassian.confluence.renderer.radeox.macros.MacroUtils;
 import com.atlassian.confluence.setup.settings.SettingsManager;
 import com.atlassian.sal.api.user.UserManager;
 import com.atlassian.spring.container.ContainerManager;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onlyoffice.model.settings.Settings;
 import com.onlyoffice.model.settings.SettingsConstants;
 import com.onlyoffice.model.settings.security.Security;
@@ -35,6 +34,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import onlyoffice.sdk.manager.document.DocumentManager;
 import onlyoffice.sdk.manager.url.UrlManager;
 import onlyoffice.sdk.service.SettingsValidationService;
+import onlyoffice.utils.json.JsonUtil;
 import onlyoffice.utils.parsing.ParsingUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -49,8 +49,6 @@ import java.util.Map;
 
 public class OnlyOfficeConfServlet extends HttpServlet {
     private final Logger log = LogManager.getLogger("onlyoffice.OnlyOfficeConfServlet");
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
     private final long serialVersionUID = 1L;
 
     private final VelocityHelperService velocityHelperService;
@@ -60,18 +58,20 @@ public class OnlyOfficeConfServlet extends HttpServlet {
     private final DocumentManager documentManager;
     private final ParsingUtil parsingUtil;
     private final SettingsValidationService settingsValidationService;
+    private final JsonUtil jsonUtil;
 
     public OnlyOfficeConfServlet(final VelocityHelperService velocityHelperService, final UserManager userManager,
                                  final com.onlyoffice.manager.settings.SettingsManager settingsManager,
                                  final DocumentManager documentManager, final UrlManager urlManager,
                                  final ParsingUtil parsingUtil,
-                                 final SettingsValidationService settingsValidationService) {
+                                 final SettingsValidationService settingsValidationService, final JsonUtil jsonUtil) {
         this.velocityHelperService = velocityHelperService;
         this.userManager = userManager;
         this.settingsManager = settingsManager;
         this.documentManager = documentManager;
         this.parsingUtil = parsingUtil;
         this.settingsValidationService = settingsValidationService;
+        this.jsonUtil = jsonUtil;
     }
 
     @Override
@@ -149,14 +149,12 @@ public class OnlyOfficeConfServlet extends HttpServlet {
             return;
         }
 
-        String body = parsingUtil.getBody(request.getInputStream());
-        if (body.isEmpty()) {
+        Settings settings = parsingUtil.getBody(request.getInputStream(), Settings.class);
+        if (settings == null) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
-        Settings settings = objectMapper.readValue(body, Settings.class);
-
         if (settings.getDemo() != null && settings.getDemo()) {
             settingsManager.enableDemo();
         } else {
@@ -188,6 +186,6 @@ public class OnlyOfficeConfServlet extends HttpServlet {
         Map<String, Object> responseMap = new HashMap<>();
         responseMap.put("validationResults", validationResults);
 
-        response.getWriter().write(objectMapper.writeValueAsString(responseMap));
+        jsonUtil.writeJson(request, response, responseMap);
     }
 }
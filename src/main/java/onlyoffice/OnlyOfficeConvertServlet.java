@@ -28,54 +28,68 @@ import com.atlassian.confluence.user.ConfluenceUser;
 import com.onlyoffice.client.DocumentServerClient;
 import com.onlyoffice.model.common.CommonResponse;
 import com.onlyoffice.model.common.Format;
-import com.onlyoffice.model.convertservice.ConvertRequest;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.onlyoffice.model.convertservice.ConvertResponse;
-import com.onlyoffice.model.convertservice.convertrequest.PDF;
-import com.onlyoffice.service.convert.ConvertService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import onlyoffice.managers.auth.AuthContext;
+import onlyoffice.managers.cache.ConversionCacheManager;
+import onlyoffice.managers.convert.ConversionJob;
+import onlyoffice.managers.convert.ConversionTracker;
 import onlyoffice.sdk.manager.document.DocumentManager;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.json.JsonUtil;
+import onlyoffice.utils.stream.SpoolOutputStream;
+import onlyoffice.utils.stream.StreamUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONObject;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Map;
 
 public class OnlyOfficeConvertServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private final Logger log = LogManager.getLogger("onlyoffice.OnlyOfficeConvertServlet");
 
+    private static final int CONVERSION_COMPLETE = 100;
+
     private final VelocityHelperService velocityHelperService;
     private final LocaleManager localeManager;
     private final AttachmentManager attachmentManager;
     private final AttachmentUtil attachmentUtil;
-    private final ConvertService convertService;
     private final AuthContext authContext;
     private final DocumentManager documentManager;
     private final DocumentServerClient documentServerClient;
+    private final StreamUtil streamUtil;
+    private final ConversionCacheManager conversionCacheManager;
+    private final ConversionTracker conversionTracker;
+    private final JsonUtil jsonUtil;
 
     public OnlyOfficeConvertServlet(final VelocityHelperService velocityHelperService,
                                     final LocaleManager localeManager, final AttachmentManager attachmentManager,
-                                    final AttachmentUtil attachmentUtil, final ConvertService convertService,
-                                    final AuthContext authContext, final DocumentManager documentManager,
-                                    final DocumentServerClient documentServerClient) {
+                                    final AttachmentUtil attachmentUtil, final AuthContext authContext,
+                                    final DocumentManager documentManager,
+                                    final DocumentServerClient documentServerClient, final StreamUtil streamUtil,
+                                    final ConversionCacheManager conversionCacheManager,
+                                    final ConversionTracker conversionTracker, final JsonUtil jsonUtil) {
         this.velocityHelperService = velocityHelperService;
         this.localeManager = localeManager;
         this.attachmentManager = attachmentManager;
         this.attachmentUtil = attachmentUtil;
-        this.convertService = convertService;
         this.authContext = authContext;
         this.documentManager = documentManager;
         this.documentServerClient = documentServerClient;
+        this.streamUtil = streamUtil;
+        this.conversionCacheManager = conversionCacheManager;
+        this.conversionTracker = conversionTracker;
+        this.jsonUtil = jsonUtil;
     }
 
     @Override
@@ -101,10 +115,7 @@ public class OnlyOfficeConvertServlet extends HttpServlet {
         String newFileExtension = documentManager.getDefaultConvertExtension(fileName);
 
         String extension = documentManager.getExtension(fileName);
-        Format docx = documentManager.getFormats().stream()
-                .filter(format -> format.getName().equals("docx"))
-                .findFirst()
-                .get();
+        Format docx = documentManager.getFormat("docx");
 
         if (docx != null
                 && extension.equals(docx.getName())
@@ -149,7 +160,7 @@ public class OnlyOfficeConvertServlet extends HttpServlet {
         Boolean createForm = Boolean.valueOf(request.getParameter("createForm"));
 
         ConfluenceUser user = null;
-        JSONObject json = null;
+        ObjectNode json = null;
 
         Long attachmentId = Long.parseLong(attachmentIdString);
         log.info("attachmentId " + attachmentId);
@@ -179,10 +190,7 @@ public class OnlyOfficeConvertServlet extends HttpServlet {
         String convertToExt = documentManager.getDefaultConvertExtension(fileName);
 
         String extension = documentManager.getExtension(fileName);
-        Format docx = documentManager.getFormats().stream()
-                .filter(format -> format.getName().equals("docx"))
-                .findFirst()
-                .get();
+        Format docx = documentManager.getFormat("docx");
 
         if (docx != null
                 && extension.equals(docx.getName())
@@ -202,73 +210,109 @@ public class OnlyOfficeConvertServlet extends HttpServlet {
             return;
         }
 
-        response.setContentType("application/json");
-        PrintWriter writer = response.getWriter();
-
         try {
             String region = localeManager.getLocale(user).toLanguageTag();
+            boolean form = convertToExt.equals("pdf") && createForm;
 
-            ConvertRequest convertRequest = ConvertRequest.builder()
-                    .async(true)
-                    .outputtype(convertToExt)
-                    .region(region)
-                    .build();
+            String cacheKey = conversionCacheManager.getKey(attachmentId, convertToExt, region, form);
+            ConversionJob job = conversionTracker.getJob(request.getParameter("jobId"), user);
 
-            if (convertToExt.equals("pdf") && createForm) {
-                convertRequest.setPdf(new PDF(true));
+            if (job != null && !job.getKey().equals(cacheKey)) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                return;
             }
 
-            ConvertResponse convertResponse = convertService.processConvert(convertRequest,
-                    String.valueOf(attachmentId));
+            File cachedFile = job == null ? conversionCacheManager.get(cacheKey) : null;
 
-            json = new JSONObject(convertResponse);
+            if (cachedFile != null) {
+                ConvertResponse convertResponse = new ConvertResponse();
+                convertResponse.setEndConvert(true);
+                convertResponse.setPercent(CONVERSION_COMPLETE);
+                convertResponse.setFileType(convertToExt);
 
-            if (convertResponse.getEndConvert() != null && convertResponse.getEndConvert()) {
                 String newFileName = documentManager.getCorrectNewFileName(title, convertToExt, pageId);
-                Long newAttachmentId = savefile(attachment, convertResponse.getFileUrl(), newFileName, pageId);
-                json.put("attachmentId", newAttachmentId);
+
+                json = jsonUtil.toTree(convertResponse);
+                json.put("attachmentId", savefile(attachment, cachedFile, null, newFileName, pageId));
+            } else {
+                if (job == null) {
+                    job = conversionTracker.submit(cacheKey, attachmentId, convertToExt, region, form, user);
+                }
+
+                conversionTracker.await(job, getKnownPercent(request));
+
+                ConvertResponse convertResponse = job.toResponse();
+                json = jsonUtil.toTree(convertResponse);
+                json.put("jobId", job.getId());
+
+                if (convertResponse.getEndConvert() != null && convertResponse.getEndConvert()) {
+                    json.put("attachmentId", savefile(job, user, attachment, title, convertToExt, pageId));
+                }
             }
 
-            writer.write(json.toString());
+            jsonUtil.writeJson(request, response, json);
         } catch (IOException e) {
             CommonResponse commonResponse = new CommonResponse();
             commonResponse.setError(CommonResponse.Error.CONNECTION);
-            json = new JSONObject(commonResponse);
-            writer.write(json.toString());
+            jsonUtil.writeJson(request, response, commonResponse);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    private Long savefile(final Attachment attachment, final String fileUrl, final String newName, final Long pageId)
-            throws Exception {
-        log.info("downloadUri = " + fileUrl);
+    private int getKnownPercent(final HttpServletRequest request) {
+        String percent = request.getParameter("percent");
+
+        if (percent == null || percent.isEmpty()) {
+            return 0;
+        }
 
-        Path tempFile = null;
         try {
-            tempFile = Files.createTempFile(null, null);
+            return Integer.parseInt(percent);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
 
-            documentServerClient.getFile(
-                    fileUrl,
-                    Files.newOutputStream(tempFile)
-            );
+    private Long savefile(final ConversionJob job, final ConfluenceUser user, final Attachment attachment,
+                          final String title, final String extension, final Long pageId) throws Exception {
+        String target = pageId + "/" + title + "." + extension;
 
-            Attachment copy = attachment.copyLatestVersion();
+        return job.consume(user, target, () -> savefile(attachment, job.getFile(), job.getFileUrl(),
+                documentManager.getCorrectNewFileName(title, extension, pageId), pageId));
+    }
 
-            copy.setContainer(attachmentUtil.getContainer(pageId));
-            copy.setFileName(newName);
-            copy.setFileSize(tempFile.toFile().length());
-            copy.setMediaType(documentManager.getMimeType(newName));
+    private Long savefile(final Attachment attachment, final File file, final String fileUrl, final String newName,
+                          final Long pageId) throws Exception {
+        if (file != null && file.exists()) {
+            try (InputStream inputStream = new FileInputStream(file)) {
+                return savefile(attachment, inputStream, file.length(), newName, pageId);
+            }
+        }
 
-            attachmentManager.saveAttachment(copy, null, Files.newInputStream(tempFile));
-//            attachmentUtil.setCollaborativeEditingKey(copy.getLatestVersionId(), null);
+        return savefile(attachment, fileUrl, newName, pageId);
+    }
 
-            return copy.getLatestVersionId();
-        } finally {
-            if (tempFile != null) {
-                Files.deleteIfExists(tempFile);
+    private Long savefile(final Attachment attachment, final String fileUrl, final String newName, final Long pageId)
+            throws Exception {
+        log.info("downloadUri = " + fileUrl);
+
+        SpoolOutputStream spool = streamUtil.createSpool();
+        try {
+            documentServerClient.getFile(fileUrl, spool);
+
+            try (InputStream inputStream = spool.getInputStream()) {
+                return savefile(attachment, inputStream, spool.getSize(), newName, pageId);
             }
+        } finally {
+            spool.discard();
         }
     }
 
+    private Long savefile(final Attachment attachment, final InputStream inputStream, final long size,
+                          final String newName, final Long pageId) throws Exception {
+        return attachmentUtil.saveAttachmentCopy(attachment, inputStream, size, newName,
+                documentManager.getMimeType(newName), pageId);
+    }
+
 }
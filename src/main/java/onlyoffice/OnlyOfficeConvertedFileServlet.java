@@ -0,0 +1,114 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice;
+
+import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
+import com.atlassian.confluence.user.ConfluenceUser;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.managers.cache.ConversionCacheManager;
+import onlyoffice.sdk.manager.document.DocumentManager;
+import onlyoffice.sdk.manager.security.JwtManager;
+import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.stream.StreamUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+public class OnlyOfficeConvertedFileServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private final Logger log = LogManager.getLogger("onlyoffice.OnlyOfficeConvertedFileServlet");
+
+    private final JwtManager jwtManager;
+    private final AttachmentUtil attachmentUtil;
+    private final DocumentManager documentManager;
+    private final ConversionCacheManager conversionCacheManager;
+    private final StreamUtil streamUtil;
+
+    public OnlyOfficeConvertedFileServlet(final JwtManager jwtManager, final AttachmentUtil attachmentUtil,
+                                          final DocumentManager documentManager,
+                                          final ConversionCacheManager conversionCacheManager,
+                                          final StreamUtil streamUtil) {
+        this.jwtManager = jwtManager;
+        this.attachmentUtil = attachmentUtil;
+        this.documentManager = documentManager;
+        this.conversionCacheManager = conversionCacheManager;
+        this.streamUtil = streamUtil;
+    }
+
+    @Override
+    public void doGet(final HttpServletRequest request, final HttpServletResponse response)
+            throws ServletException, IOException {
+        String token = request.getParameter("token");
+        JSONObject bodyFromToken;
+
+        try {
+            bodyFromToken = new JSONObject(jwtManager.verifyInternalToken(token));
+
+            if (!bodyFromToken.getString("action").equals("converted")) {
+                throw new SecurityException();
+            }
+        } catch (Exception e) {
+            throw new SecurityException("Invalid link token!");
+        }
+
+        Long attachmentId = Long.parseLong(bodyFromToken.getString("attachmentId"));
+        String key = bodyFromToken.getString("key");
+        String fileName = bodyFromToken.getString("fileName");
+
+        ConfluenceUser user = AuthenticatedUserThreadLocal.get();
+
+        if (attachmentUtil.getAttachment(attachmentId) == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        if (!attachmentUtil.checkAccess(attachmentId, user, false)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        File file = conversionCacheManager.get(key);
+
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8.name()).replace("+", "%20");
+
+        response.setContentType(documentManager.getMimeType(fileName));
+        response.setContentLengthLong(file.length());
+        response.setHeader("Content-Disposition", "attachment; filename*=UTF-8''" + encodedFileName);
+        response.setHeader("Cache-Control", "private, no-cache");
+
+        try (InputStream inputStream = new FileInputStream(file)) {
+            streamUtil.copy(inputStream, response.getOutputStream(), file.length());
+        }
+    }
+}
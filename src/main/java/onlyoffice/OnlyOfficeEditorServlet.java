@@ -26,12 +26,6 @@ import com.atlassian.confluence.renderer.radeox.macros.MacroUtils;
 import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
 import com.atlassian.confluence.user.ConfluenceUser;
 import com.atlassian.sal.api.message.I18nResolver;
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.JsonSerializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.onlyoffice.manager.settings.SettingsManager;
 import com.onlyoffice.model.documenteditor.Config;
 import com.onlyoffice.model.documenteditor.config.document.DocumentType;
 import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
@@ -41,11 +35,15 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import onlyoffice.managers.auth.AuthContext;
+import onlyoffice.managers.template.BlankTemplate;
+import onlyoffice.managers.template.TemplateManager;
 import com.atlassian.confluence.pages.Attachment;
 import onlyoffice.sdk.manager.document.DocumentManager;
 import onlyoffice.sdk.manager.security.JwtManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
 import onlyoffice.sdk.manager.url.UrlManager;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.json.JsonUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.json.JSONArray;
@@ -64,6 +62,8 @@ public class OnlyOfficeEditorServlet extends HttpServlet {
     private final Logger log = LogManager.getLogger("onlyoffice.OnlyOfficeEditorServlet");
     private final long serialVersionUID = 1L;
 
+    private static final int HISTORY_DATA_BATCH_SIZE = 20;
+
     private final I18nResolver i18n;
     private final UrlManager urlManager;
     private final AuthContext authContext;
@@ -73,6 +73,8 @@ public class OnlyOfficeEditorServlet extends HttpServlet {
     private final SettingsManager settingsManager;
     private final JwtManager jwtManager;
     private final VelocityHelperService velocityHelperService;
+    private final JsonUtil jsonUtil;
+    private final TemplateManager templateManager;
 
     private final LocaleManager localeManager;
 
@@ -80,7 +82,8 @@ public class OnlyOfficeEditorServlet extends HttpServlet {
                                    final DocumentManager documentManager, final AttachmentUtil attachmentUtil,
                                    final ConfigService configService, final SettingsManager settingsManager,
                                    final JwtManager jwtManager, final LocaleManager localeManager,
-                                   final VelocityHelperService velocityHelperService) {
+                                   final VelocityHelperService velocityHelperService, final JsonUtil jsonUtil,
+                                   final TemplateManager templateManager) {
         this.i18n = i18n;
         this.urlManager = urlManager;
         this.authContext = authContext;
@@ -91,6 +94,8 @@ public class OnlyOfficeEditorServlet extends HttpServlet {
         this.jwtManager = jwtManager;
         this.localeManager = localeManager;
         this.velocityHelperService = velocityHelperService;
+        this.jsonUtil = jsonUtil;
+        this.templateManager = templateManager;
     }
 
     @Override
@@ -127,16 +132,19 @@ public class OnlyOfficeEditorServlet extends HttpServlet {
 
                 name = attachmentUtil.getCorrectName(name, extension, Long.parseLong(pageId));
                 String mimeType = documentManager.getMimeType(name);
-                InputStream newBlankFile = documentManager.getNewBlankFile(extension, localeManager.getLocale(user));
-
-                Attachment attachment = attachmentUtil.createNewAttachment(
-                        name,
-                        mimeType,
-                        newBlankFile,
-                        newBlankFile.available(),
-                        Long.parseLong(pageId),
-                        user
-                );
+                BlankTemplate template = templateManager.getTemplate(extension, localeManager.getLocale(user));
+
+                Attachment attachment;
+                try (InputStream newBlankFile = template.getInputStream()) {
+                    attachment = attachmentUtil.createNewAttachment(
+                            name,
+                            mimeType,
+                            newBlankFile,
+                            template.getSize(),
+                            Long.parseLong(pageId),
+                            user
+                    );
+                }
 
                 response.sendRedirect(request.getContextPath() + DOC_EDITOR_SERVLET + "?attachmentId="
                         + URLEncoder.encode(String.valueOf(attachment.getId()), "UTF-8"));
@@ -203,14 +211,15 @@ public class OnlyOfficeEditorServlet extends HttpServlet {
                     config.setToken(jwtManager.createToken(config));
                 }
 
-                ObjectMapper mapper = createObjectMapper();
                 String shardKey = config.getDocument().getKey();
 
                 context.put("request", request);
                 context.put("docserviceApiUrl", urlManager.getDocumentServerApiUrl(shardKey));
-                context.put("configAsHtml", mapper.writeValueAsString(config));
+                context.put("configAsHtml", jsonUtil.toJson(config));
                 context.put("historyInfoUriAsHtml", urlManager.getHistoryInfoUri(attachmentId));
                 context.put("historyDataUriAsHtml", urlManager.getHistoryDataUri(attachmentId));
+                context.put("historyDataBatchSize", Math.max(1, Math.min(HISTORY_DATA_BATCH_SIZE,
+                        OnlyOfficeHistoryServlet.getMaxBatchVersions(settingsManager))));
                 context.put("attachmentDataAsHtml", urlManager.getAttachmentDataUri());
                 context.put("saveAsUriAsHtml", urlManager.getSaveAsUri());
                 context.put("referenceDataUriAsHtml", urlManager.getReferenceDataUri(pageId));
@@ -221,6 +230,7 @@ public class OnlyOfficeEditorServlet extends HttpServlet {
                 context.put("mailMergeTypesAsHtml", new JSONArray(documentManager.getMailMergeExtensions()).toString());
                 context.put("demo", settingsManager.isDemoActive());
                 context.put("usersInfoUrlAsHtml", urlManager.getUsersInfoUrl());
+                context.put("usersSearchUrlAsHtml", urlManager.getUsersSearchUrl());
             } else {
                 context.put("errorMessage", i18n.getText("onlyoffice.editor.message.error.unsupported") + "(."
                         + documentManager.getExtension(fileName) + ")");
@@ -234,19 +244,4 @@ public class OnlyOfficeEditorServlet extends HttpServlet {
             throw new ServletException(e.getMessage(), e);
         }
     }
-
-    private ObjectMapper createObjectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(JSONObject.class, new JsonSerializer<JSONObject>() {
-            @Override
-            public void serialize(final JSONObject jsonObject, final JsonGenerator jsonGenerator,
-                                  final SerializerProvider serializerProvider) throws IOException {
-                jsonGenerator.writeObject(jsonObject.toMap());
-            }
-        });
-        objectMapper.registerModule(module);
-
-        return objectMapper;
-    }
 }
@@ -19,6 +19,7 @@
 package onlyoffice;
 
 import com.atlassian.annotations.security.UnrestrictedAccess;
+import com.atlassian.confluence.pages.Attachment;
 import com.atlassian.confluence.user.ConfluenceUser;
 import com.atlassian.confluence.user.UserAccessor;
 import com.atlassian.sal.api.user.UserKey;
@@ -29,33 +30,62 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.managers.async.AsyncRequestManager;
+import onlyoffice.managers.cache.AttachmentCacheManager;
+import onlyoffice.sdk.manager.document.DocumentManager;
 import onlyoffice.sdk.manager.security.JwtManager;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.range.ByteRange;
+import onlyoffice.utils.range.RangeUtil;
+import onlyoffice.utils.stream.StreamUtil;
 import org.json.JSONObject;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
 
 public class OnlyOfficeFileProviderServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
-    private static final int BUFFER_SIZE = 10240;
+    private static final String CRLF = "\r\n";
+    private static final String CACHE_CONTROL = "no-cache, must-revalidate";
+    private static final long MILLISECONDS_IN_SECOND = 1000L;
 
     private final AttachmentUtil attachmentUtil;
     private final JwtManager jwtManager;
     private final SettingsManager settingsManager;
+    private final DocumentManager documentManager;
+    private final RangeUtil rangeUtil;
+    private final StreamUtil streamUtil;
+    private final AttachmentCacheManager attachmentCacheManager;
+    private final AsyncRequestManager asyncRequestManager;
 
     public OnlyOfficeFileProviderServlet(final AttachmentUtil attachmentUtil, final JwtManager jwtManager,
-                                         final SettingsManager settingsManager) {
+                                         final SettingsManager settingsManager, final DocumentManager documentManager,
+                                         final RangeUtil rangeUtil, final StreamUtil streamUtil,
+                                         final AttachmentCacheManager attachmentCacheManager,
+                                         final AsyncRequestManager asyncRequestManager) {
         this.attachmentUtil = attachmentUtil;
         this.jwtManager = jwtManager;
         this.settingsManager = settingsManager;
+        this.documentManager = documentManager;
+        this.rangeUtil = rangeUtil;
+        this.streamUtil = streamUtil;
+        this.attachmentCacheManager = attachmentCacheManager;
+        this.asyncRequestManager = asyncRequestManager;
     }
 
     @Override
     @UnrestrictedAccess
     public void doGet(final HttpServletRequest request, final HttpServletResponse response)
             throws ServletException, IOException {
+        asyncRequestManager.execute(request, response, this::processGet);
+    }
+
+    private void processGet(final HttpServletRequest request, final HttpServletResponse response)
+            throws ServletException, IOException {
         if (settingsManager.isSecurityEnabled()) {
             String jwth = settingsManager.getSecurityHeader();
             String header = request.getHeader(jwth);
@@ -98,7 +128,9 @@ public class OnlyOfficeFileProviderServlet extends HttpServlet {
         ConfluenceUser user = userAccessor.getUserByKey(userKey);
         Long attachmentId = Long.parseLong(attachmentIdString);
 
-        if (attachmentUtil.getAttachment(attachmentId) == null) {
+        Attachment attachment = attachmentUtil.getAttachment(attachmentId);
+
+        if (attachment == null) {
             response.sendError(HttpServletResponse.SC_NOT_FOUND);
             return;
         }
@@ -109,16 +141,102 @@ public class OnlyOfficeFileProviderServlet extends HttpServlet {
         }
 
         String contentType = attachmentUtil.getMediaType(attachmentId);
-        response.setContentType(contentType);
+        long length = attachment.getFileSize();
+        long lastModified = attachment.getLastModificationDate() != null
+                ? attachment.getLastModificationDate().getTime() : -1;
+        String eTag = "\"" + documentManager.getDocumentKey(attachmentIdString, false) + "\"";
+
+        response.setHeader("Accept-Ranges", "bytes");
+        response.setHeader("Cache-Control", CACHE_CONTROL);
+        response.setHeader("ETag", eTag);
+        if (lastModified != -1) {
+            response.setDateHeader("Last-Modified", lastModified);
+        }
+
+        if (isNotModified(request, eTag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        List<ByteRange> ranges = rangeUtil.getRanges(request, length, eTag, lastModified);
+
+        if (ranges != null && ranges.isEmpty()) {
+            response.setHeader("Content-Range", rangeUtil.getUnsatisfiableContentRange(length));
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        try (InputStream inputStream = attachmentCacheManager.getAttachmentData(attachment)) {
+            OutputStream output = response.getOutputStream();
+
+            if (ranges == null) {
+                response.setContentType(contentType);
+                response.setContentLengthLong(length);
+
+                streamUtil.copy(inputStream, output, length);
+            } else if (ranges.size() == 1) {
+                ByteRange range = ranges.get(0);
+
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setContentType(contentType);
+                response.setHeader("Content-Range", range.getContentRange(length));
+                response.setContentLengthLong(range.getLength());
+
+                streamUtil.copyRange(inputStream, output, range.getStart(), range.getLength());
+            } else {
+                String boundary = UUID.randomUUID().toString();
 
-        InputStream inputStream = attachmentUtil.getAttachmentData(attachmentId);
-        response.setContentLength(inputStream.available());
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setContentType("multipart/byteranges; boundary=" + boundary);
 
-        byte[] buffer = new byte[BUFFER_SIZE];
+                long position = 0;
+
+                for (ByteRange range : ranges) {
+                    String partHeader = CRLF + "--" + boundary + CRLF
+                            + "Content-Type: " + contentType + CRLF
+                            + "Content-Range: " + range.getContentRange(length) + CRLF
+                            + CRLF;
+                    output.write(partHeader.getBytes(StandardCharsets.US_ASCII));
+
+                    streamUtil.copyRange(inputStream, output, range.getStart() - position, range.getLength());
+                    position = range.getEnd() + 1;
+                }
+
+                output.write((CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    private boolean isNotModified(final HttpServletRequest request, final String eTag, final long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+
+        if (ifNoneMatch != null) {
+            for (String value : ifNoneMatch.split(",")) {
+                String tag = value.trim();
+
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+
+                if (tag.equals("*") || tag.equals(eTag)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        if (lastModified == -1) {
+            return false;
+        }
+
+        try {
+            long ifModifiedSince = request.getDateHeader("If-Modified-Since");
 
-        OutputStream output = response.getOutputStream();
-        for (int length = 0; (length = inputStream.read(buffer)) > 0;) {
-            output.write(buffer, 0, length);
+            return ifModifiedSince != -1
+                    && lastModified / MILLISECONDS_IN_SECOND <= ifModifiedSince / MILLISECONDS_IN_SECOND;
+        } catch (IllegalArgumentException e) {
+            return false;
         }
     }
 }
@@ -19,18 +19,15 @@
 package onlyoffice;
 
 import com.atlassian.annotations.security.AnonymousSiteAccess;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.onlyoffice.model.common.Format;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import onlyoffice.sdk.manager.document.DocumentManager;
+import onlyoffice.utils.json.JsonUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.ArrayList;
 import java.util.List;
 
 @AnonymousSiteAccess
@@ -39,26 +36,17 @@ public class OnlyOfficeFormatsServlet extends HttpServlet {
     private final Logger log = LogManager.getLogger("onlyoffice.OnlyOfficeFormatsServlet");
 
     private final DocumentManager documentManager;
+    private final JsonUtil jsonUtil;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    public OnlyOfficeFormatsServlet(final DocumentManager documentManager) {
+    public OnlyOfficeFormatsServlet(final DocumentManager documentManager, final JsonUtil jsonUtil) {
         this.documentManager = documentManager;
+        this.jsonUtil = jsonUtil;
     }
 
     @Override
     public void doGet(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
-        List<Format> supportedFormats = documentManager.getFormats();
-        List<String> result = new ArrayList<>();
-
-        for (Format format : supportedFormats) {
-            if (format.getActions().contains("view")) {
-                result.add(format.getName());
-            }
-        }
+        List<String> result = documentManager.getViewableExtensions();
 
-        response.setContentType("application/json");
-        PrintWriter writer = response.getWriter();
-        writer.write(objectMapper.writeValueAsString(result));
+        jsonUtil.writeJson(request, response, result);
     }
 }
@@ -28,7 +28,6 @@ import com.atlassian.confluence.user.ConfluenceUser;
 import com.atlassian.confluence.user.UserAccessor;
 import com.atlassian.confluence.user.UserPreferences;
 import com.atlassian.sal.api.message.I18nResolver;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onlyoffice.model.common.User;
 import com.onlyoffice.model.documenteditor.HistoryData;
 import com.onlyoffice.model.documenteditor.history.Version;
@@ -36,27 +35,33 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.managers.cache.HistoryCacheManager;
+import onlyoffice.managers.cache.HistoryEntry;
 import onlyoffice.sdk.manager.security.JwtManager;
-import com.onlyoffice.manager.settings.SettingsManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
 import onlyoffice.sdk.manager.url.UrlManager;
 import onlyoffice.sdk.manager.document.DocumentManager;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.json.JsonUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 @AnonymousSiteAccess
 public class OnlyOfficeHistoryServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private final Logger log = LogManager.getLogger("onlyoffice.OnlyOfficeHistoryServlet");
 
+    private static final int DEFAULT_MAX_BATCH_VERSIONS = 50;
+
     private final I18nResolver i18n;
     private final LocaleManager localeManager;
     private final FormatSettingsManager formatSettingsManager;
@@ -66,14 +71,15 @@ public class OnlyOfficeHistoryServlet extends HttpServlet {
     private final UrlManager urlManager;
     private final SettingsManager settingsManager;
     private final JwtManager jwtManager;
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonUtil jsonUtil;
+    private final HistoryCacheManager historyCacheManager;
 
     public OnlyOfficeHistoryServlet(final I18nResolver i18n, final LocaleManager localeManager,
                                     final FormatSettingsManager formatSettingsManager, final UserAccessor userAccessor,
                                     final DocumentManager documentManager, final AttachmentUtil attachmentUtil,
                                     final UrlManager urlManager, final SettingsManager settingsManager,
-                                    final JwtManager jwtManager) {
+                                    final JwtManager jwtManager, final JsonUtil jsonUtil,
+                                    final HistoryCacheManager historyCacheManager) {
         this.i18n = i18n;
         this.localeManager = localeManager;
         this.formatSettingsManager = formatSettingsManager;
@@ -83,6 +89,8 @@ public class OnlyOfficeHistoryServlet extends HttpServlet {
         this.urlManager = urlManager;
         this.settingsManager = settingsManager;
         this.jwtManager = jwtManager;
+        this.jsonUtil = jsonUtil;
+        this.historyCacheManager = historyCacheManager;
     }
 
     @Override
@@ -125,53 +133,60 @@ public class OnlyOfficeHistoryServlet extends HttpServlet {
             return;
         }
 
-        List<Attachment> attachments = attachmentUtil.getAllVersions(attachmentId);
-        if (attachments != null) {
-            UserPreferences preferences = userAccessor.getUserPreferences(user);
-            DateFormatter dateFormatter = new DateFormatter(
-                    preferences.getTimeZone(),
-                    formatSettingsManager,
-                    localeManager
-            );
-
-            Collections.reverse(attachments);
-            List<Version> history = new ArrayList<>();
-            for (Attachment attachment : attachments) {
-                ConfluenceUser creator = attachment.getCreator();
-                String creatorId = null;
-                String creatorName = i18n.getText("anonymous.name");
-
-                if (creator != null) {
-                    creatorId = creator.getKey().getStringValue();
-                    creatorName = creator.getFullName();
-                }
-
-                Version version = Version.builder()
-                        .version(String.valueOf(attachment.getVersion()))
-                        .key(documentManager.getDocumentKey(String.valueOf(attachment.getId()), false))
-                        .created(dateFormatter.formatDateTime(attachment.getCreationDate()))
-                        .user(User.builder()
-                                .id(creatorId)
-                                .name(creatorName)
-                                .build()
-                        )
-                        .build();
-
-                history.add(version);
-            }
-
-            Map<String, Object> historyInfo = new HashMap<>();
-
-            historyInfo.put("currentVersion", attachmentUtil.getVersion(attachmentId));
-            historyInfo.put("history", history);
+        Attachment current = attachmentUtil.getAttachment(attachmentId);
+        List<HistoryEntry> entries = getHistory(current);
 
-            response.setContentType("application/json");
-            PrintWriter writer = response.getWriter();
-            writer.write(objectMapper.writeValueAsString(historyInfo));
-        } else {
+        if (entries == null) {
             response.sendError(HttpServletResponse.SC_NOT_FOUND);
             return;
         }
+
+        int cursor = getIntParameter(request, "cursor", 0);
+        int limit = getIntParameter(request, "limit", 0);
+
+        int from = 0;
+        while (from < entries.size() && entries.get(from).getVersion() <= cursor) {
+            from++;
+        }
+
+        int to = limit > 0 ? Math.min(entries.size(), from + limit) : entries.size();
+
+        UserPreferences preferences = userAccessor.getUserPreferences(user);
+        DateFormatter dateFormatter = new DateFormatter(
+                preferences.getTimeZone(),
+                formatSettingsManager,
+                localeManager
+        );
+
+        List<Version> history = new ArrayList<>(to - from);
+        for (HistoryEntry entry : entries.subList(from, to)) {
+            String creatorName = entry.getCreatorName() != null
+                    ? entry.getCreatorName() : i18n.getText("anonymous.name");
+
+            Version version = Version.builder()
+                    .version(String.valueOf(entry.getVersion()))
+                    .key(entry.getKey())
+                    .created(dateFormatter.formatDateTime(entry.getCreated()))
+                    .user(User.builder()
+                            .id(entry.getCreatorId())
+                            .name(creatorName)
+                            .build()
+                    )
+                    .build();
+
+            history.add(version);
+        }
+
+        Map<String, Object> historyInfo = new HashMap<>();
+
+        historyInfo.put("currentVersion", current.getVersion());
+        historyInfo.put("history", history);
+
+        if (to < entries.size()) {
+            historyInfo.put("nextCursor", entries.get(to - 1).getVersion());
+        }
+
+        jsonUtil.writeJson(request, response, historyInfo);
     }
 
     private void getAttachmentHistoryData(final HttpServletRequest request, final HttpServletResponse response)
@@ -179,15 +194,27 @@ public class OnlyOfficeHistoryServlet extends HttpServlet {
         String vkey = request.getParameter("vkey");
         String attachmentIdString = jwtManager.readHash(vkey);
         String versionString = request.getParameter("version");
+        String versionsString = request.getParameter("versions");
 
-        if (attachmentIdString.isEmpty() || versionString == null || versionString.isEmpty()) {
+        boolean batch = versionsString != null && !versionsString.isEmpty();
+
+        if (attachmentIdString.isEmpty() || !batch && (versionString == null || versionString.isEmpty())) {
             response.sendError(HttpServletResponse.SC_NOT_FOUND);
             return;
         }
 
-        Long attachmentId = Long.parseLong(attachmentIdString);
-        int version = Integer.parseInt(versionString);
+        int maxVersions = getMaxBatchVersions(settingsManager);
+
+        Set<Integer> versions;
+        try {
+            versions = batch ? parseVersions(versionsString, maxVersions)
+                    : Collections.singleton(Integer.parseInt(versionString));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
 
+        Long attachmentId = Long.parseLong(attachmentIdString);
         ConfluenceUser user = AuthenticatedUserThreadLocal.get();
 
         if (!attachmentUtil.checkAccess(attachmentId, user, false)) {
@@ -195,42 +222,133 @@ public class OnlyOfficeHistoryServlet extends HttpServlet {
             return;
         }
 
-        List<Attachment> attachments = attachmentUtil.getAllVersions(attachmentId);
-        if (attachments != null) {
-            HistoryData historyData = null;
+        List<HistoryEntry> entries = getHistory(attachmentUtil.getAttachment(attachmentId));
 
-            Collections.reverse(attachments);
-            for (Attachment attachment : attachments) {
-                if (attachment.getVersion() == version) {
-                    historyData = HistoryData.builder()
-                            .version(String.valueOf(attachment.getVersion()))
-                            .key(documentManager.getDocumentKey(String.valueOf(attachment.getId()), false))
-                            .url(urlManager.getFileUrl(String.valueOf(attachment.getId())))
-                            .fileType(attachment.getFileExtension())
-                            .build();
-                    break;
-                }
-            }
+        if (entries == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        List<HistoryData> result = new ArrayList<>();
 
-            if (historyData != null) {
-                if (settingsManager.isSecurityEnabled()) {
-                    try {
-                        historyData.setToken(jwtManager.createToken(historyData));
-                    } catch (Exception e) {
-                        throw new IOException(e.getMessage());
-                    }
-                }
-
-                response.setContentType("application/json");
-                PrintWriter writer = response.getWriter();
-                writer.write(objectMapper.writeValueAsString(historyData));
-            } else {
-                response.sendError(HttpServletResponse.SC_NOT_FOUND);
-                return;
+        for (HistoryEntry entry : entries) {
+            if (versions.contains(entry.getVersion())) {
+                result.add(createHistoryData(entry));
             }
+        }
+
+        if (batch) {
+            jsonUtil.writeJson(request, response, result);
+        } else if (!result.isEmpty()) {
+            jsonUtil.writeJson(request, response, result.get(0));
         } else {
             response.sendError(HttpServletResponse.SC_NOT_FOUND);
-            return;
+        }
+    }
+
+    private HistoryData createHistoryData(final HistoryEntry entry) throws IOException {
+        HistoryData historyData = HistoryData.builder()
+                .version(String.valueOf(entry.getVersion()))
+                .key(entry.getKey())
+                .url(urlManager.getFileUrl(String.valueOf(entry.getAttachmentId())))
+                .fileType(entry.getFileType())
+                .build();
+
+        if (settingsManager.isSecurityEnabled()) {
+            try {
+                historyData.setToken(jwtManager.createToken(historyData));
+            } catch (Exception e) {
+                throw new IOException(e.getMessage());
+            }
+        }
+
+        return historyData;
+    }
+
+    static int getMaxBatchVersions(final SettingsManager settingsManager) {
+        return settingsManager.getSettingInteger("history.batch.maxVersions", DEFAULT_MAX_BATCH_VERSIONS);
+    }
+
+    static Set<Integer> parseVersions(final String versionsString, final int maxVersions) {
+        Set<Integer> versions = new TreeSet<>();
+
+        for (String part : versionsString.split(",")) {
+            String value = part.trim();
+
+            if (value.isEmpty()) {
+                continue;
+            }
+
+            int separator = value.indexOf('-', 1);
+            int from = Integer.parseInt(separator > 0 ? value.substring(0, separator).trim() : value);
+            int to = separator > 0 ? Integer.parseInt(value.substring(separator + 1).trim()) : from;
+
+            if (to < from || to - from >= maxVersions) {
+                throw new IllegalArgumentException("Invalid version range: " + value);
+            }
+
+            for (int version = from; version <= to; version++) {
+                versions.add(version);
+            }
+
+            if (versions.size() > maxVersions) {
+                throw new IllegalArgumentException("Too many versions requested");
+            }
+        }
+
+        return versions;
+    }
+
+    private List<HistoryEntry> getHistory(final Attachment current) {
+        if (current == null) {
+            return null;
+        }
+
+        List<HistoryEntry> history = historyCacheManager.get(current.getId(), current.getVersion());
+
+        if (history != null) {
+            return history;
+        }
+
+        List<Attachment> attachments = attachmentUtil.getAllVersions(current.getId());
+
+        if (attachments == null) {
+            return null;
+        }
+
+        Collections.reverse(attachments);
+
+        history = new ArrayList<>(attachments.size());
+        for (Attachment attachment : attachments) {
+            ConfluenceUser creator = attachment.getCreator();
+
+            history.add(new HistoryEntry(
+                    attachment.getId(),
+                    attachment.getVersion(),
+                    documentManager.getDocumentKey(attachment, false),
+                    attachment.getFileExtension(),
+                    attachment.getCreationDate(),
+                    creator != null ? creator.getKey().getStringValue() : null,
+                    creator != null ? creator.getFullName() : null
+            ));
+        }
+
+        historyCacheManager.put(current.getId(), current.getVersion(), history);
+
+        return history;
+    }
+
+    private int getIntParameter(final HttpServletRequest request, final String name, final int defaultValue) {
+        String value = request.getParameter(name);
+
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
         }
     }
 }
@@ -0,0 +1,121 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice;
+
+import com.atlassian.sal.api.user.UserManager;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.managers.async.AsyncRequestManager;
+import onlyoffice.managers.cache.AttachmentCacheManager;
+import onlyoffice.managers.cache.AvatarCacheManager;
+import onlyoffice.managers.cache.ConfigCacheManager;
+import onlyoffice.managers.cache.ConversionCacheManager;
+import onlyoffice.managers.cache.HistoryCacheManager;
+import onlyoffice.managers.callback.CallbackIdempotencyManager;
+import onlyoffice.managers.callback.CallbackQueueManager;
+import onlyoffice.managers.convert.ConversionTracker;
+import onlyoffice.managers.convert.ConversionWarmer;
+import onlyoffice.managers.metrics.MetricsManager;
+import onlyoffice.managers.template.TemplateManager;
+import onlyoffice.managers.users.UserIndexManager;
+import onlyoffice.utils.json.JsonUtil;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class OnlyOfficeMetricsServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    private final UserManager userManager;
+    private final MetricsManager metricsManager;
+    private final AttachmentCacheManager attachmentCacheManager;
+    private final ConversionCacheManager conversionCacheManager;
+    private final ConfigCacheManager configCacheManager;
+    private final AsyncRequestManager asyncRequestManager;
+    private final CallbackQueueManager callbackQueueManager;
+    private final CallbackIdempotencyManager callbackIdempotencyManager;
+    private final ConversionTracker conversionTracker;
+    private final ConversionWarmer conversionWarmer;
+    private final TemplateManager templateManager;
+    private final HistoryCacheManager historyCacheManager;
+    private final AvatarCacheManager avatarCacheManager;
+    private final UserIndexManager userIndexManager;
+    private final JsonUtil jsonUtil;
+
+    public OnlyOfficeMetricsServlet(final UserManager userManager, final MetricsManager metricsManager,
+                                    final AttachmentCacheManager attachmentCacheManager,
+                                    final ConversionCacheManager conversionCacheManager,
+                                    final AsyncRequestManager asyncRequestManager,
+                                    final CallbackQueueManager callbackQueueManager,
+                                    final CallbackIdempotencyManager callbackIdempotencyManager,
+                                    final ConversionTracker conversionTracker,
+                                    final ConversionWarmer conversionWarmer,
+                                    final ConfigCacheManager configCacheManager,
+                                    final TemplateManager templateManager,
+                                    final HistoryCacheManager historyCacheManager,
+                                    final AvatarCacheManager avatarCacheManager,
+                                    final UserIndexManager userIndexManager, final JsonUtil jsonUtil) {
+        this.userManager = userManager;
+        this.metricsManager = metricsManager;
+        this.attachmentCacheManager = attachmentCacheManager;
+        this.conversionCacheManager = conversionCacheManager;
+        this.asyncRequestManager = asyncRequestManager;
+        this.callbackQueueManager = callbackQueueManager;
+        this.callbackIdempotencyManager = callbackIdempotencyManager;
+        this.conversionTracker = conversionTracker;
+        this.conversionWarmer = conversionWarmer;
+        this.configCacheManager = configCacheManager;
+        this.templateManager = templateManager;
+        this.historyCacheManager = historyCacheManager;
+        this.avatarCacheManager = avatarCacheManager;
+        this.userIndexManager = userIndexManager;
+        this.jsonUtil = jsonUtil;
+    }
+
+    @Override
+    public void doGet(final HttpServletRequest request, final HttpServletResponse response)
+            throws ServletException, IOException {
+        String username = userManager.getRemoteUsername(request);
+        if (username == null || !userManager.isSystemAdmin(username)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+
+        metrics.put("stages", metricsManager.getStatistics());
+        metrics.put("attachmentCache", attachmentCacheManager.getStatistics());
+        metrics.put("conversionCache", conversionCacheManager.getStatistics());
+        metrics.put("configCache", configCacheManager.getStatistics());
+        metrics.put("historyCache", historyCacheManager.getStatistics());
+        metrics.put("avatarCache", avatarCacheManager.getStatistics());
+        metrics.put("templates", templateManager.getStatistics());
+        metrics.put("userIndex", userIndexManager.getStatistics());
+        metrics.put("conversions", conversionTracker.getStatistics());
+        metrics.put("conversionWarming", conversionWarmer.getStatistics());
+        metrics.put("asyncRequests", asyncRequestManager.getStatistics());
+        metrics.put("callbackQueue", callbackQueueManager.getStatistics());
+        metrics.put("callbackIdempotency", callbackIdempotencyManager.getStatistics());
+
+        jsonUtil.writeJson(request, response, metrics);
+    }
+}
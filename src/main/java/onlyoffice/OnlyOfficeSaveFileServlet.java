@@ -24,23 +24,28 @@ import com.atlassian.confluence.user.ConfluenceUser;
 import com.atlassian.confluence.user.UserAccessor;
 import com.atlassian.sal.api.user.UserKey;
 import com.atlassian.spring.container.ContainerManager;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onlyoffice.manager.settings.SettingsManager;
 import com.onlyoffice.model.documenteditor.Callback;
+import com.onlyoffice.model.documenteditor.callback.Status;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.managers.async.AsyncRequestManager;
+import onlyoffice.managers.callback.CallbackQueueManager;
+import onlyoffice.managers.metrics.MetricsManager;
+import onlyoffice.managers.metrics.StageTimer;
 import onlyoffice.sdk.manager.security.JwtManager;
 import com.onlyoffice.service.documenteditor.callback.CallbackService;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.json.JsonUtil;
 import onlyoffice.utils.parsing.ParsingUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.json.JSONObject;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class OnlyOfficeSaveFileServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
@@ -51,34 +56,50 @@ public class OnlyOfficeSaveFileServlet extends HttpServlet {
     private final AttachmentUtil attachmentUtil;
     private final ParsingUtil parsingUtil;
     private final CallbackService callbackService;
+    private final AsyncRequestManager asyncRequestManager;
+    private final CallbackQueueManager callbackQueueManager;
+    private final MetricsManager metricsManager;
+    private final JsonUtil jsonUtil;
 
     public OnlyOfficeSaveFileServlet(final SettingsManager settingsManager, final JwtManager jwtManager,
                                      final AttachmentUtil attachmentUtil, final ParsingUtil parsingUtil,
-                                     final CallbackService callbackService) {
+                                     final CallbackService callbackService,
+                                     final AsyncRequestManager asyncRequestManager,
+                                     final CallbackQueueManager callbackQueueManager,
+                                     final MetricsManager metricsManager, final JsonUtil jsonUtil) {
         this.settingsManager = settingsManager;
         this.jwtManager = jwtManager;
         this.attachmentUtil = attachmentUtil;
         this.parsingUtil = parsingUtil;
         this.callbackService = callbackService;
+        this.asyncRequestManager = asyncRequestManager;
+        this.callbackQueueManager = callbackQueueManager;
+        this.metricsManager = metricsManager;
+        this.jsonUtil = jsonUtil;
     }
 
     @Override
     @UnrestrictedAccess
     public void doPost(final HttpServletRequest request, final HttpServletResponse response)
             throws ServletException, IOException {
-        response.setContentType("text/plain; charset=utf-8");
+        asyncRequestManager.execute(request, response, this::processPost);
+    }
 
+    private void processPost(final HttpServletRequest request, final HttpServletResponse response)
+            throws ServletException, IOException {
         String token = request.getParameter("token");
         String payload;
         JSONObject bodyFromToken;
 
-        try {
+        try (StageTimer timer = metricsManager.startTimer("callback.jwt")) {
             payload = jwtManager.verifyInternalToken(token);
             bodyFromToken = new JSONObject(payload);
 
             if (!bodyFromToken.getString("action").equals("callback")) {
                 throw new SecurityException();
             }
+
+            timer.success();
         } catch (Exception e) {
             throw new SecurityException("Invalid link token!");
         }
@@ -101,32 +122,41 @@ public class OnlyOfficeSaveFileServlet extends HttpServlet {
 
         String error = "";
         try {
-            InputStream requestStream = request.getInputStream();
-
-            String bodyString = parsingUtil.getBody(requestStream);
+            Callback callback = parsingUtil.getBody(request.getInputStream(), Callback.class);
 
-            if (bodyString.isEmpty()) {
+            if (callback == null) {
                 throw new IllegalArgumentException("requestBody is empty");
             }
 
-            ObjectMapper mapper = new ObjectMapper();
-            Callback callback = mapper.readValue(bodyString, Callback.class);
-
             String authorizationHeader = request.getHeader(settingsManager.getSecurityHeader());
-            callback = callbackService.verifyCallback(callback, authorizationHeader);
+            try (StageTimer timer = metricsManager.startTimer("callback.verify")) {
+                callback = callbackService.verifyCallback(callback, authorizationHeader);
+                timer.success();
+            }
 
-            callbackService.processCallback(callback, attachmentIdString);
+            if (callbackQueueManager.isEnabled()
+                    && (Status.SAVE.equals(callback.getStatus()) || Status.FORCESAVE.equals(callback.getStatus()))) {
+                try (StageTimer timer = metricsManager.startTimer("callback.enqueue")) {
+                    callbackQueueManager.enqueue(callback, attachmentIdString, userKeyString);
+                    timer.success();
+                }
+            } else {
+                callbackService.processCallback(callback, attachmentIdString);
+            }
         } catch (Exception e) {
             log.error(e.getMessage(), e);
             error = e.getMessage();
         }
 
-        PrintWriter writer = response.getWriter();
+        Map<String, Object> result = new LinkedHashMap<>();
         if (error.isEmpty()) {
-            writer.write("{\"error\":0}");
+            result.put("error", 0);
         } else {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            writer.write("{\"error\":1,\"message\":\"" + error + "\"}");
+            result.put("error", 1);
+            result.put("message", error);
         }
+
+        jsonUtil.writeJson(request, response, result);
     }
 }
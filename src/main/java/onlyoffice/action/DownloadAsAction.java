@@ -25,23 +25,24 @@ import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
 import com.atlassian.core.filters.ServletContextThreadLocal;
 import com.atlassian.struts.httpmethod.HttpMethod;
 import com.atlassian.struts.httpmethod.PermittedMethods;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.onlyoffice.model.common.CommonResponse;
-import com.onlyoffice.model.convertservice.ConvertRequest;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.onlyoffice.model.convertservice.ConvertResponse;
-import com.onlyoffice.service.convert.ConvertService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.managers.cache.ConversionCacheManager;
+import onlyoffice.managers.convert.ConversionJob;
+import onlyoffice.managers.convert.ConversionTracker;
 import onlyoffice.sdk.manager.document.DocumentManager;
 import onlyoffice.sdk.manager.url.UrlManager;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.json.JsonUtil;
 import com.atlassian.confluence.user.ConfluenceUser;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.interceptor.parameter.StrutsParameter;
 
-import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.File;
 import java.util.List;
 
 @AnonymousSiteAccess
@@ -49,25 +50,34 @@ public class DownloadAsAction extends ConfluenceActionSupport {
 
     private final Logger log = LogManager.getLogger("onlyoffice.action.DownloadAsAction");
 
+    private static final int CONVERSION_COMPLETE = 100;
+
     private AttachmentUtil attachmentUtil;
-    private ConvertService convertService;
     private DocumentManager documentManager;
     private final LocaleManager localeManager;
     private final UrlManager urlManager;
+    private final ConversionCacheManager conversionCacheManager;
+    private final ConversionTracker conversionTracker;
+    private final JsonUtil jsonUtil;
 
     private String attachmentId;
     private String fileName;
     private String targetFileType;
+    private String jobId;
+    private String percent;
     private static final char[] INVALID_CHARS;
 
-    public DownloadAsAction(final AttachmentUtil attachmentUtil, final ConvertService convertService,
-                            final LocaleManager localeManager, final DocumentManager documentManager,
-                            final UrlManager urlManager) {
+    public DownloadAsAction(final AttachmentUtil attachmentUtil, final LocaleManager localeManager,
+                            final DocumentManager documentManager, final UrlManager urlManager,
+                            final ConversionCacheManager conversionCacheManager,
+                            final ConversionTracker conversionTracker, final JsonUtil jsonUtil) {
         this.attachmentUtil = attachmentUtil;
-        this.convertService = convertService;
         this.documentManager = documentManager;
         this.localeManager = localeManager;
         this.urlManager = urlManager;
+        this.conversionCacheManager = conversionCacheManager;
+        this.conversionTracker = conversionTracker;
+        this.jsonUtil = jsonUtil;
     }
 
     @PermittedMethods({ HttpMethod.GET })
@@ -127,23 +137,40 @@ public class DownloadAsAction extends ConfluenceActionSupport {
         ConfluenceUser user = AuthenticatedUserThreadLocal.get();
         String region = localeManager.getLocale(user).toLanguageTag();
 
-        ConvertRequest convertRequest = ConvertRequest.builder()
-                .async(true)
-                .outputtype(targetExt)
-                .region(region)
-                .build();
-
+        HttpServletRequest request = ServletContextThreadLocal.getRequest();
         HttpServletResponse response = ServletContextThreadLocal.getResponse();
-        response.setContentType("application/json");
-        PrintWriter writer = response.getWriter();
-        ObjectMapper mapper = new ObjectMapper();
 
-        try {
-            ConvertResponse convertResponse = convertService.processConvert(convertRequest, this.attachmentId);
+        String cacheKey = conversionCacheManager.getKey(attachmentId, targetExt, region, false);
+        String downloadName = this.fileName + "." + targetExt;
 
-            if (convertResponse.getEndConvert() != null && convertResponse.getEndConvert()) {
-                String fileUrl = convertResponse.getFileUrl();
+        File cachedFile = conversionCacheManager.get(cacheKey);
+        if (cachedFile != null) {
+            ConvertResponse convertResponse = new ConvertResponse();
+            convertResponse.setEndConvert(true);
+            convertResponse.setPercent(CONVERSION_COMPLETE);
+            convertResponse.setFileType(targetExt);
+            convertResponse.setFileUrl(urlManager.getConvertedFileUrl(attachmentId, cacheKey, downloadName));
+
+            response.setStatus(HttpServletResponse.SC_OK);
+            jsonUtil.writeJson(request, response, convertResponse);
+            return "none";
+        }
+
+        ConversionJob job = conversionTracker.getJob(this.jobId, user);
 
+        if (job == null) {
+            job = conversionTracker.submit(cacheKey, attachmentId, targetExt, region, false, user);
+        }
+
+        conversionTracker.await(job, getKnownPercent());
+
+        ConvertResponse convertResponse = job.toResponse();
+
+        if (convertResponse.getEndConvert() != null && convertResponse.getEndConvert()) {
+            if (job.getFile() != null) {
+                convertResponse.setFileUrl(urlManager.getConvertedFileUrl(attachmentId, cacheKey, downloadName));
+            } else {
+                String fileUrl = convertResponse.getFileUrl();
                 String documentServerUrl = urlManager.getDocumentServerUrl();
                 String innerDocumentServerUrl = urlManager.getInnerDocumentServerUrl();
 
@@ -153,20 +180,28 @@ public class DownloadAsAction extends ConfluenceActionSupport {
 
                 convertResponse.setFileUrl(fileUrl);
             }
-
-            writer.write(mapper.writeValueAsString(convertResponse));
-        } catch (IOException e) {
-            log.error(e.getMessage(), e);
-
-            CommonResponse commonResponse = new CommonResponse();
-            commonResponse.setError(CommonResponse.Error.CONNECTION);
-            writer.write(mapper.writeValueAsString(commonResponse));
         }
 
+        ObjectNode json = jsonUtil.toTree(convertResponse);
+        json.put("jobId", job.getId());
+
         response.setStatus(HttpServletResponse.SC_OK);
+        jsonUtil.writeJson(request, response, json);
         return "none";
     }
 
+    private int getKnownPercent() {
+        if (percent == null || percent.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return Integer.parseInt(percent);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     @StrutsParameter
     public void setAttachmentId(final String attachmentId) {
         this.attachmentId = attachmentId;
@@ -182,6 +217,16 @@ public class DownloadAsAction extends ConfluenceActionSupport {
         this.targetFileType = targetFileType;
     }
 
+    @StrutsParameter
+    public void setJobId(final String jobId) {
+        this.jobId = jobId;
+    }
+
+    @StrutsParameter
+    public void setPercent(final String percent) {
+        this.percent = percent;
+    }
+
     public String getAttachmentId() {
         return attachmentId;
     }
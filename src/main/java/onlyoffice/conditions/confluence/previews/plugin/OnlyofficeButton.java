@@ -28,13 +28,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.model.dto.AttachmentAccessRequest;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.json.JsonUtil;
 import onlyoffice.utils.parsing.ParsingUtil;
-import org.json.JSONObject;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintWriter;
+import java.util.HashMap;
+import java.util.Map;
 
 @AnonymousSiteAccess
 public class OnlyofficeButton extends HttpServlet {
@@ -42,24 +43,25 @@ public class OnlyofficeButton extends HttpServlet {
     private final ParsingUtil parsingUtil;
     private final AttachmentUtil attachmentUtil;
     private final DocumentManager documentManager;
+    private final JsonUtil jsonUtil;
 
     public OnlyofficeButton(final AttachmentManager attachmentManager, final ParsingUtil parsingUtil,
-                            final AttachmentUtil attachmentUtil, final DocumentManager documentManager) {
+                            final AttachmentUtil attachmentUtil, final DocumentManager documentManager,
+                            final JsonUtil jsonUtil) {
         this.attachmentManager = attachmentManager;
         this.parsingUtil = parsingUtil;
         this.attachmentUtil = attachmentUtil;
         this.documentManager = documentManager;
+        this.jsonUtil = jsonUtil;
     }
 
     @Override
     public void doPost(final HttpServletRequest request, final HttpServletResponse response)
             throws ServletException, IOException {
-        InputStream requestStream = request.getInputStream();
-        String body = parsingUtil.getBody(requestStream);
-
         try {
-            JSONObject bodyJson = new JSONObject(body);
-            String attachmentIdString = bodyJson.getString("attachmentId");
+            AttachmentAccessRequest attachmentAccessRequest = parsingUtil.getBody(request.getInputStream(),
+                    AttachmentAccessRequest.class);
+            String attachmentIdString = attachmentAccessRequest.getAttachmentId();
             Long attachmentId = Long.parseLong(attachmentIdString);
             Attachment attachment = attachmentManager.getAttachment(attachmentId);
 
@@ -78,10 +80,10 @@ public class OnlyofficeButton extends HttpServlet {
                 access = "view";
             }
 
-            response.setContentType("application/json");
-            PrintWriter writer = response.getWriter();
-            writer.write("{\"access\":\"" + access + "\"}");
+            Map<String, Object> result = new HashMap<>();
+            result.put("access", access);
 
+            jsonUtil.writeJson(request, response, result);
         } catch (Exception e) {
             throw new IOException(e.getMessage());
         }
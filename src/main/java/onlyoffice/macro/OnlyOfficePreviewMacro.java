@@ -35,7 +35,6 @@ import com.atlassian.confluence.plugin.services.VelocityHelperService;
 import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
 import com.atlassian.confluence.user.ConfluenceUser;
 import com.atlassian.confluence.util.HtmlUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onlyoffice.manager.document.DocumentManager;
 import com.onlyoffice.manager.url.UrlManager;
 import com.onlyoffice.model.documenteditor.Config;
@@ -45,6 +44,7 @@ import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
 import com.onlyoffice.service.documenteditor.config.ConfigService;
 import onlyoffice.macro.components.ContentResolver;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.json.JsonUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.commons.lang3.StringUtils;
@@ -70,12 +70,14 @@ public class OnlyOfficePreviewMacro implements Macro, EditorImagePlaceholder, Re
     private final AttachmentUtil attachmentUtil;
     private final ConfigService configSevice;
     private final DocumentManager documentManager;
+    private final JsonUtil jsonUtil;
 
     public OnlyOfficePreviewMacro(final AttachmentManager attachmentManager,
                                   final VelocityHelperService velocityHelperService,
                                   final ContentResolver contentResolver, final LocaleManager localeManager,
                                   final UrlManager urlManager, final AttachmentUtil attachmentUtil,
-                                  final ConfigService configSevice, final DocumentManager documentManager) {
+                                  final ConfigService configSevice, final DocumentManager documentManager,
+                                  final JsonUtil jsonUtil) {
         this.attachmentManager = attachmentManager;
         this.velocityHelperService = velocityHelperService;
         this.contentResolver = contentResolver;
@@ -84,6 +86,7 @@ public class OnlyOfficePreviewMacro implements Macro, EditorImagePlaceholder, Re
         this.attachmentUtil = attachmentUtil;
         this.configSevice = configSevice;
         this.documentManager = documentManager;
+        this.jsonUtil = jsonUtil;
     }
 
     @Override
@@ -132,14 +135,12 @@ public class OnlyOfficePreviewMacro implements Macro, EditorImagePlaceholder, Re
                 }
             }
 
-            ObjectMapper mapper = new ObjectMapper();
-
             final Map<String, Object> context = this.velocityHelperService.createDefaultVelocityContext();
             context.put("id", System.currentTimeMillis());
             context.put("attachmentId", attachment.getId());
             context.put("action", action);
             context.put("docServiceApiUrl", urlManager.getDocumentServerApiUrl());
-            context.put("configAsHtml", mapper.writeValueAsString(config));
+            context.put("configAsHtml", jsonUtil.toJson(config));
 
             return this.velocityHelperService.getRenderedTemplate("templates/preview.vm", context);
         } catch (Exception e) {
@@ -0,0 +1,295 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.async;
+
+import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
+import com.atlassian.sal.api.transaction.TransactionTemplate;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AsyncRequestManagerImpl implements AsyncRequestManager, DisposableBean {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.async.AsyncRequestManager");
+
+    private static final int DEFAULT_THREADS = 16;
+    private static final int DEFAULT_QUEUE_SIZE = 200;
+    private static final long DEFAULT_TIMEOUT = 300L;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final long MILLISECONDS_IN_SECOND = 1000L;
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final SettingsManager settingsManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile ThreadPoolExecutor executor;
+
+    public AsyncRequestManagerImpl(final SettingsManager settingsManager,
+                                   final TransactionTemplate transactionTemplate) {
+        this.settingsManager = settingsManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    public void execute(final HttpServletRequest request, final HttpServletResponse response,
+                        final AsyncRequestHandler handler) throws ServletException, IOException {
+        if (!settingsManager.getSettingBoolean("async.enabled", true) || !request.isAsyncSupported()) {
+            handle(request, response, handler);
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(getTimeout() * MILLISECONDS_IN_SECOND);
+
+        AsyncTask task = new AsyncTask(asyncContext, request, response, handler);
+        asyncContext.addListener(task);
+
+        try {
+            task.setFuture(getExecutor().submit(task));
+        } catch (RejectedExecutionException e) {
+            reject(response);
+            task.complete();
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        ThreadPoolExecutor currentExecutor = executor;
+
+        statistics.put("rejected", rejected.get());
+
+        if (currentExecutor != null) {
+            statistics.put("active", currentExecutor.getActiveCount());
+            statistics.put("poolSize", currentExecutor.getPoolSize());
+            statistics.put("largestPoolSize", currentExecutor.getLargestPoolSize());
+            statistics.put("maximumPoolSize", currentExecutor.getMaximumPoolSize());
+            statistics.put("queueDepth", currentExecutor.getQueue().size());
+            statistics.put("queueRemainingCapacity", currentExecutor.getQueue().remainingCapacity());
+            statistics.put("completed", currentExecutor.getCompletedTaskCount());
+        }
+
+        return statistics;
+    }
+
+    private void handle(final HttpServletRequest request, final HttpServletResponse response,
+                        final AsyncRequestHandler handler) throws ServletException, IOException {
+        try {
+            transactionTemplate.execute(() -> {
+                try {
+                    handler.handle(request, response);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new AsyncRequestException(e);
+                }
+                return null;
+            });
+        } catch (AsyncRequestException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+
+            if (cause instanceof ServletException) {
+                throw (ServletException) cause;
+            }
+
+            throw new ServletException(cause.getMessage(), cause);
+        } finally {
+            AuthenticatedUserThreadLocal.reset();
+        }
+    }
+
+    private void reject(final HttpServletResponse response) throws IOException {
+        rejected.incrementAndGet();
+        log.warn("Request rejected, the ONLYOFFICE request queue is full");
+
+        response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+        response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    }
+
+    private void sendError(final HttpServletResponse response) {
+        try {
+            if (!response.isCommitted()) {
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    private void sendTimeout(final HttpServletResponse response) {
+        try {
+            if (!response.isCommitted()) {
+                response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug(e.getMessage(), e);
+        }
+    }
+
+    private long getTimeout() {
+        return settingsManager.getSettingLong("async.timeout", DEFAULT_TIMEOUT);
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    int threads = settingsManager.getSettingInteger("async.threads", DEFAULT_THREADS);
+                    int queueSize = settingsManager.getSettingInteger("async.queueSize", DEFAULT_QUEUE_SIZE);
+
+                    ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threads, threads,
+                            KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize),
+                            new NamedThreadFactory("onlyoffice-request"));
+                    threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+                    executor = threadPoolExecutor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    private static final class AsyncRequestException extends RuntimeException {
+        AsyncRequestException(final Throwable cause) {
+            super(cause);
+        }
+    }
+
+    private final class AsyncTask implements Runnable, AsyncListener {
+        private final AsyncContext asyncContext;
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final AsyncRequestHandler handler;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile Future<?> future;
+
+        private AsyncTask(final AsyncContext asyncContext, final HttpServletRequest request,
+                          final HttpServletResponse response, final AsyncRequestHandler handler) {
+            this.asyncContext = asyncContext;
+            this.request = request;
+            this.response = response;
+            this.handler = handler;
+        }
+
+        @Override
+        public void run() {
+            if (done.get()) {
+                return;
+            }
+
+            try {
+                handle(request, response, handler);
+            } catch (Exception e) {
+                if (!done.get()) {
+                    log.error(e.getMessage(), e);
+                    sendError(response);
+                }
+            } finally {
+                complete();
+            }
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            if (done.compareAndSet(false, true)) {
+                log.warn("Request timed out after " + getTimeout() + " seconds: " + request.getRequestURI());
+
+                cancel();
+                sendTimeout(response);
+                completeContext();
+            }
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            if (done.compareAndSet(false, true)) {
+                cancel();
+                completeContext();
+            }
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            done.set(true);
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+        }
+
+        private void setFuture(final Future<?> future) {
+            this.future = future;
+
+            if (done.get()) {
+                cancel();
+            }
+        }
+
+        private void complete() {
+            if (done.compareAndSet(false, true)) {
+                completeContext();
+            }
+        }
+
+        private void cancel() {
+            Future<?> current = future;
+
+            if (current != null) {
+                current.cancel(true);
+            }
+        }
+
+        private void completeContext() {
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                log.debug("Async context already completed: " + e.getMessage());
+            }
+        }
+    }
+}
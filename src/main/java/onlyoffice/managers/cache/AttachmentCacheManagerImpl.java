@@ -0,0 +1,268 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.cache;
+
+import com.atlassian.confluence.event.events.content.attachment.AttachmentEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentRemoveEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentTrashedEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentUpdateEvent;
+import com.atlassian.confluence.pages.Attachment;
+import com.atlassian.confluence.setup.BootstrapManager;
+import com.atlassian.event.api.EventListener;
+import com.atlassian.event.api.EventPublisher;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import onlyoffice.utils.attachment.AttachmentUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AttachmentCacheManagerImpl implements AttachmentCacheManager, InitializingBean, DisposableBean {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.cache.AttachmentCacheManager");
+
+    private static final String CACHE_DIRECTORY = "onlyoffice/cache/attachments";
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024L;
+    private static final long DEFAULT_MAX_SIZE = 1024L;
+    private static final long DEFAULT_MAX_ENTRY_SIZE = 256L;
+
+    private final AttachmentUtil attachmentUtil;
+    private final SettingsManager settingsManager;
+    private final BootstrapManager bootstrapManager;
+    private final EventPublisher eventPublisher;
+
+    private final Set<String> filling = ConcurrentHashMap.newKeySet();
+
+    private volatile DiskCache diskCache;
+
+    public AttachmentCacheManagerImpl(final AttachmentUtil attachmentUtil, final SettingsManager settingsManager,
+                                      final BootstrapManager bootstrapManager, final EventPublisher eventPublisher) {
+        this.attachmentUtil = attachmentUtil;
+        this.settingsManager = settingsManager;
+        this.bootstrapManager = bootstrapManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        eventPublisher.register(this);
+    }
+
+    @Override
+    public void destroy() {
+        eventPublisher.unregister(this);
+    }
+
+    @EventListener
+    public void onAttachmentRemoveEvent(final AttachmentRemoveEvent event) {
+        onAttachmentChanged(event);
+    }
+
+    @EventListener
+    public void onAttachmentTrashedEvent(final AttachmentTrashedEvent event) {
+        onAttachmentChanged(event);
+    }
+
+    @EventListener
+    public void onAttachmentUpdateEvent(final AttachmentUpdateEvent event) {
+        onAttachmentChanged(event);
+    }
+
+    public InputStream getAttachmentData(final Attachment attachment) {
+        DiskCache cache = getDiskCache();
+        long maxEntrySize = settingsManager.getSettingLong("cache.attachments.maxEntrySize", DEFAULT_MAX_ENTRY_SIZE)
+                * BYTES_IN_MEGABYTE;
+
+        if (cache == null || attachment.getFileSize() > maxEntrySize) {
+            return attachmentUtil.getAttachmentData(attachment.getId());
+        }
+
+        String key = getKey(attachment);
+
+        try {
+            File file = cache.get(key);
+
+            if (file != null) {
+                return new FileInputStream(file);
+            }
+        } catch (IOException e) {
+            log.warn("Unable to serve attachment " + attachment.getId() + " from cache: " + e.getMessage());
+        }
+
+        InputStream inputStream = attachmentUtil.getAttachmentData(attachment.getId());
+
+        if (inputStream == null || !filling.add(key)) {
+            return inputStream;
+        }
+
+        try {
+            return new CachingInputStream(inputStream, key, cache.fill(key));
+        } catch (IOException e) {
+            filling.remove(key);
+            log.warn("Unable to cache attachment " + attachment.getId() + ": " + e.getMessage());
+
+            return inputStream;
+        }
+    }
+
+    public void invalidate(final Long attachmentId) {
+        DiskCache cache = diskCache;
+
+        if (cache != null && attachmentId != null) {
+            cache.removeByPrefix(attachmentId + "_");
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        DiskCache cache = diskCache;
+
+        if (cache == null) {
+            Map<String, Object> statistics = new HashMap<>();
+            statistics.put("enabled", isEnabled());
+
+            return statistics;
+        }
+
+        Map<String, Object> statistics = cache.getStatistics();
+        statistics.put("enabled", isEnabled());
+
+        return statistics;
+    }
+
+    private DiskCache getDiskCache() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        if (diskCache == null) {
+            synchronized (this) {
+                if (diskCache == null) {
+                    File directory = new File(bootstrapManager.getLocalHome(), CACHE_DIRECTORY);
+                    long maxSize = settingsManager.getSettingLong("cache.attachments.maxSize", DEFAULT_MAX_SIZE)
+                            * BYTES_IN_MEGABYTE;
+
+                    diskCache = new DiskCache(directory, maxSize);
+                }
+            }
+        }
+
+        return diskCache;
+    }
+
+    private boolean isEnabled() {
+        return settingsManager.getSettingBoolean("cache.attachments.enabled", true);
+    }
+
+    private String getKey(final Attachment attachment) {
+        return attachment.getId() + "_" + attachment.getVersion();
+    }
+
+    private void onAttachmentChanged(final AttachmentEvent event) {
+        for (Attachment attachment : event.getAttachments()) {
+            invalidate(attachment.getId());
+        }
+    }
+
+    private final class CachingInputStream extends FilterInputStream {
+        private final String key;
+        private final DiskCache.Fill fill;
+        private boolean complete = false;
+
+        private CachingInputStream(final InputStream inputStream, final String key, final DiskCache.Fill fill) {
+            super(inputStream);
+            this.key = key;
+            this.fill = fill;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+
+            if (b == -1) {
+                complete = true;
+            } else if (fill.isOpen()) {
+                try {
+                    fill.write(b);
+                } catch (IOException e) {
+                    abandon(e);
+                }
+            }
+
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int read = super.read(b, off, len);
+
+            if (read == -1) {
+                complete = true;
+            } else if (read > 0 && fill.isOpen()) {
+                try {
+                    fill.write(b, off, read);
+                } catch (IOException e) {
+                    abandon(e);
+                }
+            }
+
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            fill.close();
+
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (complete) {
+                    fill.commit();
+                }
+            } catch (IOException e) {
+                abandon(e);
+            } finally {
+                fill.close();
+                filling.remove(key);
+                super.close();
+            }
+        }
+
+        private void abandon(final IOException e) {
+            log.warn("Unable to cache attachment " + key + ": " + e.getMessage());
+            fill.close();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.cache;
+
+import java.io.Serializable;
+
+public class Avatar implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] data;
+    private final String contentType;
+    private final String version;
+
+    public Avatar(final byte[] data, final String contentType, final String version) {
+        this.data = data;
+        this.contentType = contentType;
+        this.version = version;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+}
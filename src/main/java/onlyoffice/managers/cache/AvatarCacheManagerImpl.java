@@ -0,0 +1,235 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.cache;
+
+import com.atlassian.cache.Cache;
+import com.atlassian.cache.CacheManager;
+import com.atlassian.cache.CacheSettingsBuilder;
+import com.atlassian.confluence.setup.BootstrapManager;
+import com.atlassian.confluence.user.actions.ProfilePictureInfo;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.apache.commons.io.IOUtils;
+import org.apache.hc.client5.http.utils.Hex;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AvatarCacheManagerImpl implements AvatarCacheManager {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.cache.AvatarCacheManager");
+
+    private static final String CACHE_NAME = "onlyoffice.managers.cache.AvatarCacheManager";
+    private static final String CACHE_DIRECTORY = "onlyoffice/cache/avatars";
+    private static final String CONTENT_TYPE = "image/png";
+    private static final String FORMAT = "png";
+    private static final int VERSION_LENGTH = 16;
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024L;
+    private static final int DEFAULT_SIZE = 64;
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final long DEFAULT_TTL = 86400L;
+    private static final long DEFAULT_MAX_SIZE = 64L;
+
+    private final SettingsManager settingsManager;
+    private final CacheManager cacheManager;
+    private final BootstrapManager bootstrapManager;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong resized = new AtomicLong();
+
+    private volatile Cache<String, Avatar> cache;
+    private volatile DiskCache diskCache;
+
+    public AvatarCacheManagerImpl(final SettingsManager settingsManager, final CacheManager cacheManager,
+                                  final BootstrapManager bootstrapManager) {
+        this.settingsManager = settingsManager;
+        this.cacheManager = cacheManager;
+        this.bootstrapManager = bootstrapManager;
+    }
+
+    public String getVersion(final ProfilePictureInfo profilePictureInfo) {
+        String source = profilePictureInfo.getDownloadPath() + "_" + getSize();
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(source.getBytes(StandardCharsets.UTF_8));
+
+            return Hex.encodeHexString(digest).substring(0, VERSION_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Avatar getAvatar(final String userKey, final ProfilePictureInfo profilePictureInfo) throws IOException {
+        String version = getVersion(profilePictureInfo);
+        String key = getKey(userKey, version);
+
+        Avatar avatar = getCache().get(key);
+
+        if (avatar != null) {
+            hits.incrementAndGet();
+            return avatar;
+        }
+
+        misses.incrementAndGet();
+
+        DiskCache disk = getDiskCache();
+        File file = disk.get(key);
+
+        if (file != null) {
+            try (InputStream inputStream = new FileInputStream(file)) {
+                avatar = new Avatar(IOUtils.toByteArray(inputStream), CONTENT_TYPE, version);
+            }
+        } else {
+            byte[] original;
+            try (InputStream inputStream = profilePictureInfo.getBytes()) {
+                original = IOUtils.toByteArray(inputStream);
+            }
+
+            byte[] scaled = resize(original);
+
+            if (scaled != null) {
+                avatar = new Avatar(scaled, CONTENT_TYPE, version);
+                disk.put(key, new ByteArrayInputStream(scaled));
+            } else {
+                avatar = new Avatar(original, profilePictureInfo.getContentType(), version);
+            }
+        }
+
+        getCache().put(key, avatar);
+
+        return avatar;
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        DiskCache disk = diskCache;
+
+        statistics.put("hits", hits.get());
+        statistics.put("misses", misses.get());
+        statistics.put("resized", resized.get());
+
+        if (disk != null) {
+            statistics.put("disk", disk.getStatistics());
+        }
+
+        return statistics;
+    }
+
+    private byte[] resize(final byte[] original) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(original));
+
+            if (image == null) {
+                return null;
+            }
+
+            int size = getSize();
+            double scale = Math.min(1d, Math.min((double) size / image.getWidth(), (double) size / image.getHeight()));
+            int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(image, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            ImageIO.write(scaled, FORMAT, outputStream);
+            resized.incrementAndGet();
+
+            return outputStream.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to resize avatar: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private String getKey(final String userKey, final String version) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(userKey.getBytes(StandardCharsets.UTF_8));
+
+            return Hex.encodeHexString(digest) + "_" + version + "." + FORMAT;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int getSize() {
+        return Math.max(1, settingsManager.getSettingInteger("avatar.size", DEFAULT_SIZE));
+    }
+
+    private Cache<String, Avatar> getCache() {
+        if (cache == null) {
+            synchronized (this) {
+                if (cache == null) {
+                    int maxEntries = settingsManager.getSettingInteger("cache.avatars.maxEntries",
+                            DEFAULT_MAX_ENTRIES);
+                    long ttl = settingsManager.getSettingLong("cache.avatars.ttl", DEFAULT_TTL);
+
+                    cache = cacheManager.getCache(CACHE_NAME, null, new CacheSettingsBuilder()
+                            .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                            .maxEntries(maxEntries)
+                            .local()
+                            .build());
+                }
+            }
+        }
+
+        return cache;
+    }
+
+    private DiskCache getDiskCache() {
+        if (diskCache == null) {
+            synchronized (this) {
+                if (diskCache == null) {
+                    File directory = new File(bootstrapManager.getLocalHome(), CACHE_DIRECTORY);
+                    long maxSize = settingsManager.getSettingLong("cache.avatars.maxSize", DEFAULT_MAX_SIZE)
+                            * BYTES_IN_MEGABYTE;
+
+                    diskCache = new DiskCache(directory, maxSize);
+                }
+            }
+        }
+
+        return diskCache;
+    }
+}
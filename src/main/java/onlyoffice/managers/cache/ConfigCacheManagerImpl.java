@@ -0,0 +1,104 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.cache;
+
+import com.atlassian.cache.Cache;
+import com.atlassian.cache.CacheManager;
+import com.atlassian.cache.CacheSettingsBuilder;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConfigCacheManagerImpl implements ConfigCacheManager {
+    private static final String CACHE_NAME = "onlyoffice.managers.cache.ConfigCacheManager";
+    private static final int DEFAULT_MAX_ENTRIES = 2000;
+    private static final long DEFAULT_TTL = 3600L;
+
+    private final SettingsManager settingsManager;
+    private final CacheManager cacheManager;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private volatile Cache<String, String> cache;
+
+    public ConfigCacheManagerImpl(final SettingsManager settingsManager, final CacheManager cacheManager) {
+        this.settingsManager = settingsManager;
+        this.cacheManager = cacheManager;
+    }
+
+    public String get(final String key) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        String config = getCache().get(key);
+
+        if (config != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+
+        return config;
+    }
+
+    public void put(final String key, final String config) {
+        if (isEnabled()) {
+            getCache().put(key, config);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+
+        statistics.put("enabled", isEnabled());
+        statistics.put("hits", hits.get());
+        statistics.put("misses", misses.get());
+
+        return statistics;
+    }
+
+    private boolean isEnabled() {
+        return settingsManager.getSettingBoolean("cache.config.enabled", true);
+    }
+
+    private Cache<String, String> getCache() {
+        if (cache == null) {
+            synchronized (this) {
+                if (cache == null) {
+                    int maxEntries = settingsManager.getSettingInteger("cache.config.maxEntries",
+                            DEFAULT_MAX_ENTRIES);
+                    long ttl = settingsManager.getSettingLong("cache.config.ttl", DEFAULT_TTL);
+
+                    cache = cacheManager.getCache(CACHE_NAME, null, new CacheSettingsBuilder()
+                            .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                            .maxEntries(maxEntries)
+                            .local()
+                            .build());
+                }
+            }
+        }
+
+        return cache;
+    }
+}
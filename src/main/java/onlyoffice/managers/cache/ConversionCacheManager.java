@@ -0,0 +1,35 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+public interface ConversionCacheManager {
+    String getKey(Long attachmentId, String outputType, String region, boolean form);
+
+    File get(String key);
+
+    File put(String key, String fileUrl) throws IOException;
+
+    void invalidate(Long attachmentId);
+
+    Map<String, Object> getStatistics();
+}
@@ -0,0 +1,298 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.cache;
+
+import com.atlassian.confluence.event.events.content.attachment.AttachmentEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentRemoveEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentTrashedEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentUpdateEvent;
+import com.atlassian.confluence.pages.Attachment;
+import com.atlassian.confluence.setup.BootstrapManager;
+import com.atlassian.event.api.EventListener;
+import com.atlassian.event.api.EventPublisher;
+import com.onlyoffice.client.DocumentServerClient;
+import onlyoffice.sdk.manager.document.DocumentManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import onlyoffice.utils.stream.SpoolOutputStream;
+import onlyoffice.utils.stream.StreamUtil;
+import org.apache.hc.client5.http.utils.Hex;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class ConversionCacheManagerImpl implements ConversionCacheManager, InitializingBean, DisposableBean {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.cache.ConversionCacheManager");
+
+    private static final String CACHE_DIRECTORY = "onlyoffice/cache/conversions";
+    private static final String NODE_ID_FILE = "onlyoffice/node-id";
+    private static final long BYTES_IN_MEGABYTE = 1024 * 1024L;
+    private static final long DEFAULT_MAX_SIZE = 512L;
+    private static final long DEFAULT_SHARED_MAX_SIZE = 2048L;
+
+    private final DocumentManager documentManager;
+    private final DocumentServerClient documentServerClient;
+    private final StreamUtil streamUtil;
+    private final SettingsManager settingsManager;
+    private final BootstrapManager bootstrapManager;
+    private final EventPublisher eventPublisher;
+
+    private volatile DiskCache localCache;
+    private volatile DiskCache sharedCache;
+
+    public ConversionCacheManagerImpl(final DocumentManager documentManager,
+                                      final DocumentServerClient documentServerClient, final StreamUtil streamUtil,
+                                      final SettingsManager settingsManager, final BootstrapManager bootstrapManager,
+                                      final EventPublisher eventPublisher) {
+        this.documentManager = documentManager;
+        this.documentServerClient = documentServerClient;
+        this.streamUtil = streamUtil;
+        this.settingsManager = settingsManager;
+        this.bootstrapManager = bootstrapManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        eventPublisher.register(this);
+    }
+
+    @Override
+    public void destroy() {
+        eventPublisher.unregister(this);
+    }
+
+    @EventListener
+    public void onAttachmentRemoveEvent(final AttachmentRemoveEvent event) {
+        onAttachmentChanged(event);
+    }
+
+    @EventListener
+    public void onAttachmentTrashedEvent(final AttachmentTrashedEvent event) {
+        onAttachmentChanged(event);
+    }
+
+    @EventListener
+    public void onAttachmentUpdateEvent(final AttachmentUpdateEvent event) {
+        onAttachmentChanged(event);
+    }
+
+    public String getKey(final Long attachmentId, final String outputType, final String region,
+                         final boolean form) {
+        String documentKey = documentManager.getDocumentKey(String.valueOf(attachmentId), false);
+        String source = documentKey + "_" + outputType + "_" + region + "_" + form;
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(source.getBytes(StandardCharsets.UTF_8));
+
+            return attachmentId + "_" + Hex.encodeHexString(digest) + "." + outputType;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public File get(final String key) {
+        DiskCache local = getLocalCache();
+
+        if (local == null) {
+            return null;
+        }
+
+        File file = local.get(key);
+
+        if (file == null) {
+            DiskCache shared = getSharedCache();
+
+            if (shared != null) {
+                File sharedFile = shared.get(key);
+
+                if (sharedFile != null) {
+                    try (InputStream inputStream = new FileInputStream(sharedFile)) {
+                        file = local.put(key, inputStream);
+                    } catch (IOException e) {
+                        log.warn("Unable to copy conversion " + key + " from shared cache: " + e.getMessage());
+                        file = sharedFile;
+                    }
+                }
+            }
+        }
+
+        return file;
+    }
+
+    public File put(final String key, final String fileUrl) throws IOException {
+        DiskCache local = getLocalCache();
+
+        if (local == null) {
+            return null;
+        }
+
+        File file;
+        SpoolOutputStream spool = streamUtil.createSpool();
+        try {
+            documentServerClient.getFile(fileUrl, spool);
+
+            try (InputStream inputStream = spool.getInputStream()) {
+                file = local.put(key, inputStream);
+            }
+        } finally {
+            spool.discard();
+        }
+
+        DiskCache shared = getSharedCache();
+
+        if (file != null && shared != null) {
+            try (InputStream inputStream = new FileInputStream(file)) {
+                shared.put(key, inputStream);
+            } catch (IOException e) {
+                log.warn("Unable to store conversion " + key + " in shared cache: " + e.getMessage());
+            }
+        }
+
+        return file;
+    }
+
+    public void invalidate(final Long attachmentId) {
+        if (attachmentId == null) {
+            return;
+        }
+
+        DiskCache local = localCache;
+        DiskCache shared = sharedCache;
+
+        if (local != null) {
+            local.removeByPrefix(attachmentId + "_");
+        }
+
+        if (shared != null) {
+            shared.removeByPrefix(attachmentId + "_");
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        DiskCache local = localCache;
+        DiskCache shared = sharedCache;
+
+        statistics.put("enabled", isEnabled());
+        statistics.put("sharedEnabled", isSharedEnabled());
+
+        if (local != null) {
+            statistics.put("local", local.getStatistics());
+        }
+
+        if (shared != null) {
+            statistics.put("shared", shared.getStatistics());
+        }
+
+        return statistics;
+    }
+
+    private DiskCache getLocalCache() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        if (localCache == null) {
+            synchronized (this) {
+                if (localCache == null) {
+                    File directory = new File(bootstrapManager.getLocalHome(), CACHE_DIRECTORY);
+                    long maxSize = settingsManager.getSettingLong("cache.conversions.maxSize", DEFAULT_MAX_SIZE)
+                            * BYTES_IN_MEGABYTE;
+
+                    localCache = new DiskCache(directory, maxSize);
+                }
+            }
+        }
+
+        return localCache;
+    }
+
+    private DiskCache getSharedCache() {
+        if (!isSharedEnabled() || bootstrapManager.getSharedHome() == null) {
+            return null;
+        }
+
+        if (sharedCache == null) {
+            synchronized (this) {
+                if (sharedCache == null) {
+                    File directory = new File(bootstrapManager.getSharedHome(), CACHE_DIRECTORY);
+                    long maxSize = settingsManager.getSettingLong("cache.conversions.shared.maxSize",
+                            DEFAULT_SHARED_MAX_SIZE) * BYTES_IN_MEGABYTE;
+
+                    sharedCache = new DiskCache(directory, maxSize, getNodeId());
+                }
+            }
+        }
+
+        return sharedCache;
+    }
+
+    private String getNodeId() {
+        File file = new File(bootstrapManager.getLocalHome(), NODE_ID_FILE);
+
+        try {
+            if (file.isFile()) {
+                String nodeId = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).trim();
+
+                if (!nodeId.isEmpty()) {
+                    return nodeId;
+                }
+            }
+
+            String nodeId = UUID.randomUUID().toString();
+
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), nodeId.getBytes(StandardCharsets.UTF_8));
+
+            return nodeId;
+        } catch (IOException e) {
+            log.warn("Unable to persist node id in " + file + ": " + e.getMessage());
+
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private void onAttachmentChanged(final AttachmentEvent event) {
+        for (Attachment attachment : event.getAttachments()) {
+            invalidate(attachment.getId());
+        }
+    }
+
+    private boolean isEnabled() {
+        return settingsManager.getSettingBoolean("cache.conversions.enabled", true);
+    }
+
+    private boolean isSharedEnabled() {
+        return isEnabled() && settingsManager.getSettingBoolean("cache.conversions.shared.enabled", false);
+    }
+}
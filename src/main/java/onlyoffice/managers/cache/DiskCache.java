@@ -0,0 +1,332 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DiskCache {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.cache.DiskCache");
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File directory;
+    private final long maxSize;
+    private final String tempPrefix;
+    private final boolean shared;
+    private final Map<String, Long> entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    private long size = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public DiskCache(final File directory, final long maxSize) {
+        this(directory, maxSize, null);
+    }
+
+    public DiskCache(final File directory, final long maxSize, final String nodeId) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.tempPrefix = nodeId != null ? nodeId + "-" : null;
+        this.shared = nodeId != null;
+
+        load();
+    }
+
+    public File get(final String key) {
+        File file = getFile(key);
+
+        synchronized (this) {
+            if (entries.get(key) != null && file.exists()) {
+                hits.incrementAndGet();
+                return file;
+            }
+
+            if (entries.containsKey(key)) {
+                size -= entries.remove(key);
+            } else if (file.isFile()) {
+                long length = file.length();
+
+                entries.put(key, length);
+                size += length;
+                evict(key);
+
+                hits.incrementAndGet();
+                return file;
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public File put(final String key, final InputStream inputStream) throws IOException {
+        Fill fill = fill(key);
+
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int read; (read = inputStream.read(buffer)) != -1;) {
+                fill.write(buffer, 0, read);
+            }
+
+            return fill.commit();
+        } finally {
+            fill.close();
+        }
+    }
+
+    public Fill fill(final String key) throws IOException {
+        return new Fill(key, Files.createTempFile(directory.toPath(), tempPrefix, TEMP_SUFFIX));
+    }
+
+    public void remove(final String key) {
+        synchronized (this) {
+            Long length = entries.remove(key);
+            if (length != null) {
+                size -= length;
+            }
+        }
+
+        delete(getFile(key));
+    }
+
+    public void removeByPrefix(final String prefix) {
+        List<String> removed = new ArrayList<>();
+
+        synchronized (this) {
+            Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    size -= entry.getValue();
+                    removed.add(entry.getKey());
+                    iterator.remove();
+                }
+            }
+        }
+
+        for (String key : removed) {
+            delete(getFile(key));
+        }
+
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(prefix) && !name.endsWith(TEMP_SUFFIX));
+        if (files != null) {
+            for (File file : files) {
+                delete(file);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        for (String key : entries.keySet()) {
+            delete(getFile(key));
+        }
+
+        entries.clear();
+        size = 0;
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+
+        synchronized (this) {
+            statistics.put("entries", entries.size());
+            statistics.put("size", size);
+        }
+
+        statistics.put("maxSize", maxSize);
+        statistics.put("hits", hits.get());
+        statistics.put("misses", misses.get());
+        statistics.put("evictions", evictions.get());
+
+        return statistics;
+    }
+
+    public final class Fill extends OutputStream {
+        private final String key;
+        private final OutputStream outputStream;
+        private Path temp;
+        private long length = 0;
+
+        private Fill(final String key, final Path temp) throws IOException {
+            this.key = key;
+            this.temp = temp;
+            this.outputStream = Files.newOutputStream(temp);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (isOpen()) {
+                outputStream.write(b);
+                length++;
+                checkSize();
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (isOpen()) {
+                outputStream.write(b, off, len);
+                length += len;
+                checkSize();
+            }
+        }
+
+        public boolean isOpen() {
+            return temp != null;
+        }
+
+        public File commit() throws IOException {
+            if (!isOpen()) {
+                return null;
+            }
+
+            outputStream.close();
+
+            File file = getFile(key);
+            Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+
+            synchronized (DiskCache.this) {
+                if (shared) {
+                    scan();
+                } else {
+                    Long previous = entries.put(key, length);
+                    size += length - (previous != null ? previous : 0);
+                }
+
+                evict(key);
+            }
+
+            return file;
+        }
+
+        @Override
+        public void close() {
+            if (!isOpen()) {
+                return;
+            }
+
+            try {
+                outputStream.close();
+            } catch (IOException e) {
+                log.warn("Unable to close cache file " + temp + ": " + e.getMessage());
+            }
+
+            delete(temp.toFile());
+            temp = null;
+        }
+
+        private void checkSize() {
+            if (length > maxSize) {
+                close();
+            }
+        }
+    }
+
+    private void evict(final String keep) {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+
+            size -= entry.getValue();
+            iterator.remove();
+            evictions.incrementAndGet();
+            delete(getFile(entry.getKey()));
+        }
+    }
+
+    private void load() {
+        if (!directory.exists() && !directory.mkdirs()) {
+            log.error("Unable to create cache directory " + directory);
+            return;
+        }
+
+        File[] temps = directory.listFiles((dir, name) -> name.endsWith(TEMP_SUFFIX)
+                && (tempPrefix == null || name.startsWith(tempPrefix)));
+        if (temps != null) {
+            for (File temp : temps) {
+                delete(temp);
+            }
+        }
+
+        synchronized (this) {
+            scan();
+            evict(null);
+        }
+    }
+
+    private void scan() {
+        File[] files = directory.listFiles((dir, name) -> !name.endsWith(TEMP_SUFFIX));
+
+        entries.clear();
+        size = 0;
+
+        if (files == null) {
+            return;
+        }
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+
+        for (File file : files) {
+            long length = file.length();
+
+            entries.put(file.getName(), length);
+            size += length;
+        }
+    }
+
+    private File getFile(final String key) {
+        return new File(directory, key);
+    }
+
+    private void delete(final File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            log.warn("Unable to delete cached file " + file + ": " + e.getMessage());
+        }
+    }
+}
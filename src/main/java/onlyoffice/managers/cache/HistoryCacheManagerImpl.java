@@ -0,0 +1,152 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.cache;
+
+import com.atlassian.cache.Cache;
+import com.atlassian.cache.CacheManager;
+import com.atlassian.cache.CacheSettingsBuilder;
+import com.atlassian.confluence.core.ContentEntityObject;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentEvent;
+import com.atlassian.confluence.pages.Attachment;
+import com.atlassian.event.api.EventListener;
+import com.atlassian.event.api.EventPublisher;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class HistoryCacheManagerImpl implements HistoryCacheManager, InitializingBean, DisposableBean {
+    private static final String CACHE_NAME = "onlyoffice.managers.cache.HistoryCacheManager";
+    private static final int DEFAULT_MAX_ENTRIES = 500;
+    private static final long DEFAULT_TTL = 3600L;
+
+    private final SettingsManager settingsManager;
+    private final CacheManager cacheManager;
+    private final EventPublisher eventPublisher;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private volatile Cache<String, ArrayList<HistoryEntry>> cache;
+
+    public HistoryCacheManagerImpl(final SettingsManager settingsManager, final CacheManager cacheManager,
+                                   final EventPublisher eventPublisher) {
+        this.settingsManager = settingsManager;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        eventPublisher.register(this);
+    }
+
+    @Override
+    public void destroy() {
+        eventPublisher.unregister(this);
+    }
+
+    @EventListener
+    public void onAttachmentEvent(final AttachmentEvent event) {
+        if (cache == null) {
+            return;
+        }
+
+        for (Attachment attachment : event.getAttachments()) {
+            ContentEntityObject latest = attachment.getLatestVersion();
+
+            if (latest == null) {
+                latest = attachment;
+            }
+
+            cache.remove(getKey(latest.getId(), latest.getVersion()));
+            evictions.incrementAndGet();
+        }
+    }
+
+    public List<HistoryEntry> get(final Long attachmentId, final int currentVersion) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        List<HistoryEntry> history = getCache().get(getKey(attachmentId, currentVersion));
+
+        if (history != null) {
+            hits.incrementAndGet();
+            return Collections.unmodifiableList(history);
+        }
+
+        misses.incrementAndGet();
+
+        return null;
+    }
+
+    public void put(final Long attachmentId, final int currentVersion, final List<HistoryEntry> history) {
+        if (isEnabled()) {
+            getCache().put(getKey(attachmentId, currentVersion), new ArrayList<>(history));
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+
+        statistics.put("enabled", isEnabled());
+        statistics.put("hits", hits.get());
+        statistics.put("misses", misses.get());
+        statistics.put("evictions", evictions.get());
+
+        return statistics;
+    }
+
+    private String getKey(final Long attachmentId, final int currentVersion) {
+        return attachmentId + "_" + currentVersion;
+    }
+
+    private boolean isEnabled() {
+        return settingsManager.getSettingBoolean("cache.history.enabled", true);
+    }
+
+    private Cache<String, ArrayList<HistoryEntry>> getCache() {
+        if (cache == null) {
+            synchronized (this) {
+                if (cache == null) {
+                    int maxEntries = settingsManager.getSettingInteger("cache.history.maxEntries",
+                            DEFAULT_MAX_ENTRIES);
+                    long ttl = settingsManager.getSettingLong("cache.history.ttl", DEFAULT_TTL);
+
+                    cache = cacheManager.getCache(CACHE_NAME, null, new CacheSettingsBuilder()
+                            .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                            .maxEntries(maxEntries)
+                            .local()
+                            .build());
+                }
+            }
+        }
+
+        return cache;
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.cache;
+
+import java.io.Serializable;
+import java.util.Date;
+
+public class HistoryEntry implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Long attachmentId;
+    private final int version;
+    private final String key;
+    private final String fileType;
+    private final Date created;
+    private final String creatorId;
+    private final String creatorName;
+
+    public HistoryEntry(final Long attachmentId, final int version, final String key, final String fileType,
+                        final Date created, final String creatorId, final String creatorName) {
+        this.attachmentId = attachmentId;
+        this.version = version;
+        this.key = key;
+        this.fileType = fileType;
+        this.created = created != null ? new Date(created.getTime()) : null;
+        this.creatorId = creatorId;
+        this.creatorName = creatorName;
+    }
+
+    public Long getAttachmentId() {
+        return attachmentId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getFileType() {
+        return fileType;
+    }
+
+    public Date getCreated() {
+        return created != null ? new Date(created.getTime()) : null;
+    }
+
+    public String getCreatorId() {
+        return creatorId;
+    }
+
+    public String getCreatorName() {
+        return creatorName;
+    }
+}
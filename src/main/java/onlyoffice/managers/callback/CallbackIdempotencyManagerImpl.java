@@ -0,0 +1,186 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.callback;
+
+import com.atlassian.cache.Cache;
+import com.atlassian.cache.CacheManager;
+import com.atlassian.cache.CacheSettingsBuilder;
+import com.onlyoffice.model.documenteditor.Callback;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.apache.hc.client5.http.utils.Hex;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CallbackIdempotencyManagerImpl implements CallbackIdempotencyManager {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.callback.CallbackIdempotencyManager");
+
+    private static final String CACHE_NAME = "onlyoffice.managers.callback.CallbackIdempotencyManager";
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+    private static final long DEFAULT_TTL = 86400L;
+    private static final long DEFAULT_CLAIM_TIMEOUT = 1800L;
+
+    private final SettingsManager settingsManager;
+    private final CacheManager cacheManager;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong concurrent = new AtomicLong();
+
+    private volatile Cache<String, Long> cache;
+
+    public CallbackIdempotencyManagerImpl(final SettingsManager settingsManager, final CacheManager cacheManager) {
+        this.settingsManager = settingsManager;
+        this.cacheManager = cacheManager;
+    }
+
+    public boolean claim(final Callback callback, final String fileId) {
+        String key = getKey(callback, fileId);
+
+        if (key == null) {
+            return true;
+        }
+
+        Cache<String, Long> currentCache = getCache();
+        long now = System.currentTimeMillis();
+
+        while (true) {
+            Long previous = currentCache.putIfAbsent(key, -now);
+
+            if (previous == null) {
+                misses.incrementAndGet();
+                return true;
+            }
+
+            if (previous > 0) {
+                hits.incrementAndGet();
+                log.info("Duplicate callback for document " + callback.getKey() + " (status " + callback.getStatus()
+                        + ") skipped");
+
+                return false;
+            }
+
+            if (now + previous < getClaimTimeout()) {
+                concurrent.incrementAndGet();
+                log.info("Callback for document " + callback.getKey() + " (status " + callback.getStatus()
+                        + ") is already being processed, skipped");
+
+                return false;
+            }
+
+            if (currentCache.replace(key, previous, -now)) {
+                log.warn("Stale claim on callback for document " + callback.getKey() + " taken over");
+                misses.incrementAndGet();
+
+                return true;
+            }
+        }
+    }
+
+    public void markProcessed(final Callback callback, final String fileId) {
+        String key = getKey(callback, fileId);
+
+        if (key != null) {
+            getCache().put(key, System.currentTimeMillis());
+            recorded.incrementAndGet();
+        }
+    }
+
+    public void release(final Callback callback, final String fileId) {
+        String key = getKey(callback, fileId);
+
+        if (key != null) {
+            Cache<String, Long> currentCache = getCache();
+            Long current = currentCache.get(key);
+
+            if (current != null && current < 0) {
+                currentCache.remove(key, current);
+            }
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+
+        statistics.put("enabled", isEnabled());
+        statistics.put("hits", hits.get());
+        statistics.put("misses", misses.get());
+        statistics.put("recorded", recorded.get());
+        statistics.put("concurrent", concurrent.get());
+
+        return statistics;
+    }
+
+    private String getKey(final Callback callback, final String fileId) {
+        if (!isEnabled() || callback == null || callback.getKey() == null || callback.getUrl() == null) {
+            return null;
+        }
+
+        return fileId + "_" + callback.getKey() + "_" + callback.getStatus() + "_" + getHashHex(callback.getUrl());
+    }
+
+    private String getHashHex(final String str) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest(str.getBytes(StandardCharsets.UTF_8));
+
+            return Hex.encodeHexString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long getClaimTimeout() {
+        return TimeUnit.SECONDS.toMillis(settingsManager.getSettingLong("callbacks.idempotency.claimTimeout",
+                DEFAULT_CLAIM_TIMEOUT));
+    }
+
+    private boolean isEnabled() {
+        return settingsManager.getSettingBoolean("callbacks.idempotency.enabled", true);
+    }
+
+    private Cache<String, Long> getCache() {
+        if (cache == null) {
+            synchronized (this) {
+                if (cache == null) {
+                    int maxEntries = settingsManager.getSettingInteger("callbacks.idempotency.maxEntries",
+                            DEFAULT_MAX_ENTRIES);
+                    long ttl = settingsManager.getSettingLong("callbacks.idempotency.ttl", DEFAULT_TTL);
+
+                    cache = cacheManager.getCache(CACHE_NAME, null, new CacheSettingsBuilder()
+                            .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                            .maxEntries(maxEntries)
+                            .remote()
+                            .replicateViaCopy()
+                            .build());
+                }
+            }
+        }
+
+        return cache;
+    }
+}
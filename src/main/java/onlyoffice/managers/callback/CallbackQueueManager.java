@@ -0,0 +1,39 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.callback;
+
+import com.onlyoffice.model.documenteditor.Callback;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public interface CallbackQueueManager {
+    boolean isEnabled();
+
+    void enqueue(Callback callback, String attachmentId, String userKey) throws IOException;
+
+    List<CallbackJob> getJobs(CallbackJobState state);
+
+    boolean retry(String id);
+
+    boolean delete(String id);
+
+    Map<String, Object> getStatistics();
+}
@@ -0,0 +1,631 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.callback;
+
+import com.atlassian.confluence.setup.BootstrapManager;
+import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
+import com.atlassian.confluence.user.ConfluenceUser;
+import com.atlassian.confluence.user.UserAccessor;
+import com.atlassian.sal.api.transaction.TransactionTemplate;
+import com.atlassian.sal.api.user.UserKey;
+import com.atlassian.spring.container.ContainerManager;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlyoffice.model.documenteditor.Callback;
+import com.onlyoffice.service.documenteditor.callback.CallbackService;
+import onlyoffice.managers.async.NamedThreadFactory;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CallbackQueueManagerImpl implements CallbackQueueManager, InitializingBean, DisposableBean {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.callback.CallbackQueueManager");
+
+    private static final String QUEUE_DIRECTORY = "onlyoffice/callbacks";
+    private static final String JOB_FILE_EXTENSION = ".json";
+    private static final String LOCK_FILE_EXTENSION = ".lock";
+    private static final int DEFAULT_THREADS = 4;
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final long DEFAULT_RETRY_DELAY = 5L;
+    private static final long DEFAULT_MAX_RETRY_DELAY = 1800L;
+    private static final long DEFAULT_POLL_INTERVAL = 5L;
+    private static final long DEFAULT_PROCESSING_TIMEOUT = 1800L;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final SettingsManager settingsManager;
+    private final BootstrapManager bootstrapManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CallbackService callbackService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    private final Set<String> locks = ConcurrentHashMap.newKeySet();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong superseded = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private File directory;
+    private Semaphore permits;
+    private ScheduledExecutorService dispatcher;
+    private ThreadPoolExecutor workers;
+
+    public CallbackQueueManagerImpl(final SettingsManager settingsManager, final BootstrapManager bootstrapManager,
+                                    final TransactionTemplate transactionTemplate,
+                                    final CallbackService callbackService) {
+        this.settingsManager = settingsManager;
+        this.bootstrapManager = bootstrapManager;
+        this.transactionTemplate = transactionTemplate;
+        this.callbackService = callbackService;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        File sharedHome = bootstrapManager.getSharedHome();
+        directory = new File(sharedHome != null ? sharedHome : bootstrapManager.getLocalHome(), QUEUE_DIRECTORY);
+
+        for (CallbackJobState state : CallbackJobState.values()) {
+            getDirectory(state).mkdirs();
+        }
+
+        int threads = settingsManager.getSettingInteger("callbacks.queue.threads", DEFAULT_THREADS);
+        long pollInterval = settingsManager.getSettingLong("callbacks.queue.pollInterval", DEFAULT_POLL_INTERVAL);
+
+        permits = new Semaphore(threads);
+        workers = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new NamedThreadFactory("onlyoffice-callback"));
+        workers.allowCoreThreadTimeOut(true);
+
+        ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1,
+                new NamedThreadFactory("onlyoffice-callback-dispatcher"));
+        scheduledExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        scheduledExecutor.scheduleWithFixedDelay(this::dispatch, pollInterval, pollInterval, TimeUnit.SECONDS);
+
+        dispatcher = scheduledExecutor;
+    }
+
+    @Override
+    public void destroy() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return settingsManager.getSettingBoolean("callbacks.queue.enabled", true);
+    }
+
+    public void enqueue(final Callback callback, final String attachmentId, final String userKey)
+            throws IOException {
+        long now = System.currentTimeMillis();
+
+        CallbackJob job = new CallbackJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setAttachmentId(attachmentId);
+        job.setUserKey(userKey);
+        job.setCallback(callback);
+        job.setCreated(now);
+        job.setNextAttempt(now);
+
+        write(job, CallbackJobState.PENDING);
+        enqueued.incrementAndGet();
+
+        signal();
+    }
+
+    public List<CallbackJob> getJobs(final CallbackJobState state) {
+        List<CallbackJob> jobs = new ArrayList<>();
+
+        for (File file : listJobFiles(state)) {
+            try {
+                jobs.add(read(file));
+            } catch (IOException e) {
+                log.warn("Unable to read callback job " + file.getName() + ": " + e.getMessage());
+            }
+        }
+
+        return jobs;
+    }
+
+    public boolean retry(final String id) {
+        File file = findJobFile(CallbackJobState.FAILED, id);
+
+        if (file == null) {
+            return false;
+        }
+
+        try {
+            CallbackJob job = read(file);
+            job.setAttempts(0);
+            job.setNextAttempt(System.currentTimeMillis());
+
+            write(job, CallbackJobState.PENDING);
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+            return false;
+        }
+
+        signal();
+        return true;
+    }
+
+    public boolean delete(final String id) {
+        for (CallbackJobState state : Arrays.asList(CallbackJobState.PENDING, CallbackJobState.FAILED)) {
+            File file = findJobFile(state, id);
+
+            if (file != null) {
+                try {
+                    return Files.deleteIfExists(file.toPath());
+                } catch (IOException e) {
+                    log.error(e.getMessage(), e);
+                    return false;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+
+        statistics.put("enabled", isEnabled());
+        statistics.put("enqueued", enqueued.get());
+        statistics.put("completed", completed.get());
+        statistics.put("superseded", superseded.get());
+        statistics.put("retried", retried.get());
+        statistics.put("failed", failed.get());
+        statistics.put("active", inProgress.size());
+
+        for (CallbackJobState state : CallbackJobState.values()) {
+            statistics.put(state.getDirectoryName(), listJobFiles(state).size());
+        }
+
+        return statistics;
+    }
+
+    private void signal() {
+        try {
+            dispatcher.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            log.debug("Callback dispatcher is shut down");
+        }
+    }
+
+    private void dispatch() {
+        try {
+            touchActiveFiles();
+            recoverStaleJobs();
+
+            long now = System.currentTimeMillis();
+            List<PendingJob> eligible = new ArrayList<>();
+
+            for (List<PendingJob> jobs : getPendingJobsByAttachment().values()) {
+                PendingJob head = dropSuperseded(jobs);
+
+                if (head != null && head.getJob().getNextAttempt() <= now) {
+                    eligible.add(head);
+                }
+            }
+
+            eligible.sort(Comparator.comparingLong((PendingJob pending) -> pending.getJob().getNextAttempt()));
+
+            for (PendingJob pending : eligible) {
+                if (!permits.tryAcquire()) {
+                    break;
+                }
+
+                final String attachmentId = pending.getJob().getAttachmentId();
+
+                if (!lock(attachmentId)) {
+                    permits.release();
+                    continue;
+                }
+
+                final File claimed = claim(pending.getFile());
+
+                if (claimed == null) {
+                    unlock(attachmentId);
+                    permits.release();
+                    continue;
+                }
+
+                try {
+                    workers.execute(() -> {
+                        try {
+                            process(claimed);
+                        } finally {
+                            inProgress.remove(claimed.getName());
+                            unlock(attachmentId);
+                            permits.release();
+                            signal();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inProgress.remove(claimed.getName());
+                    unlock(attachmentId);
+                    permits.release();
+                    move(claimed, getDirectory(CallbackJobState.PENDING));
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    private Map<String, List<PendingJob>> getPendingJobsByAttachment() {
+        Map<String, List<PendingJob>> jobsByAttachment = new HashMap<>();
+
+        for (File file : listJobFiles(CallbackJobState.PENDING)) {
+            try {
+                CallbackJob job = read(file);
+
+                jobsByAttachment.computeIfAbsent(String.valueOf(job.getAttachmentId()), k -> new ArrayList<>())
+                        .add(new PendingJob(file, job));
+            } catch (IOException e) {
+                log.warn("Unable to read callback job " + file.getName() + ": " + e.getMessage());
+            }
+        }
+
+        for (List<PendingJob> jobs : jobsByAttachment.values()) {
+            jobs.sort(Comparator.comparingLong((PendingJob pending) -> pending.getJob().getCreated()));
+        }
+
+        return jobsByAttachment;
+    }
+
+    private PendingJob dropSuperseded(final List<PendingJob> jobs) {
+        Map<String, PendingJob> latest = new HashMap<>();
+
+        for (PendingJob pending : jobs) {
+            String key = getDocumentKey(pending.getJob());
+
+            if (key != null) {
+                latest.put(key, pending);
+            }
+        }
+
+        PendingJob head = null;
+
+        for (PendingJob pending : jobs) {
+            String key = getDocumentKey(pending.getJob());
+
+            if (key != null && latest.get(key) != pending) {
+                log.info("Callback job " + pending.getJob().getId() + " for attachment "
+                        + pending.getJob().getAttachmentId() + " is superseded by job "
+                        + latest.get(key).getJob().getId() + ", dropping it");
+
+                try {
+                    Files.deleteIfExists(pending.getFile().toPath());
+                    superseded.incrementAndGet();
+                } catch (IOException e) {
+                    log.warn("Unable to drop callback job " + pending.getJob().getId() + ": " + e.getMessage());
+                }
+            } else if (head == null) {
+                head = pending;
+            }
+        }
+
+        return head;
+    }
+
+    private String getDocumentKey(final CallbackJob job) {
+        return job.getCallback() != null ? job.getCallback().getKey() : null;
+    }
+
+    private boolean lock(final String attachmentId) {
+        File lockFile = getLockFile(attachmentId);
+
+        try {
+            Files.createFile(lockFile.toPath());
+        } catch (IOException e) {
+            return false;
+        }
+
+        locks.add(lockFile.getName());
+        return true;
+    }
+
+    private void unlock(final String attachmentId) {
+        File lockFile = getLockFile(attachmentId);
+
+        try {
+            Files.deleteIfExists(lockFile.toPath());
+        } catch (IOException e) {
+            log.error("Unable to release callback lock " + lockFile.getName() + ": " + e.getMessage());
+        } finally {
+            locks.remove(lockFile.getName());
+        }
+    }
+
+    private File getLockFile(final String attachmentId) {
+        String name = String.valueOf(attachmentId).replaceAll("[^0-9A-Za-z_-]", "_");
+
+        return new File(getDirectory(CallbackJobState.PROCESSING), name + LOCK_FILE_EXTENSION);
+    }
+
+    private File claim(final File file) {
+        File claimed = new File(getDirectory(CallbackJobState.PROCESSING), file.getName());
+
+        inProgress.add(claimed.getName());
+
+        try {
+            Files.move(file.toPath(), claimed.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            Files.setLastModifiedTime(claimed.toPath(), FileTime.fromMillis(System.currentTimeMillis()));
+
+            return claimed;
+        } catch (IOException e) {
+            inProgress.remove(claimed.getName());
+            return null;
+        }
+    }
+
+    private void process(final File file) {
+        final CallbackJob job;
+
+        try {
+            job = read(file);
+        } catch (IOException e) {
+            log.error("Unable to read callback job " + file.getName() + ", moving it to failed", e);
+            failed.incrementAndGet();
+            move(file, getDirectory(CallbackJobState.FAILED));
+            return;
+        }
+
+        try {
+            transactionTemplate.execute(() -> {
+                UserAccessor userAccessor = (UserAccessor) ContainerManager.getComponent("userAccessor");
+                ConfluenceUser user = userAccessor.getUserByKey(new UserKey(job.getUserKey()));
+                AuthenticatedUserThreadLocal.set(user);
+
+                try {
+                    callbackService.processCallback(job.getCallback(), job.getAttachmentId());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CallbackJobException(e);
+                }
+
+                return null;
+            });
+
+            Files.deleteIfExists(file.toPath());
+            completed.incrementAndGet();
+        } catch (Exception e) {
+            Throwable cause = e instanceof CallbackJobException ? e.getCause() : e;
+            reschedule(file, job, cause);
+        } finally {
+            AuthenticatedUserThreadLocal.reset();
+        }
+    }
+
+    private void reschedule(final File file, final CallbackJob job, final Throwable cause) {
+        int maxAttempts = settingsManager.getSettingInteger("callbacks.queue.maxAttempts", DEFAULT_MAX_ATTEMPTS);
+        int attempts = job.getAttempts() + 1;
+
+        job.setAttempts(attempts);
+        job.setLastError(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName());
+
+        try {
+            if (attempts >= maxAttempts) {
+                log.error("Callback job " + job.getId() + " for attachment " + job.getAttachmentId() + " failed after "
+                        + attempts + " attempts", cause);
+
+                write(job, CallbackJobState.FAILED);
+                failed.incrementAndGet();
+            } else {
+                long delay = getRetryDelay(attempts);
+                log.warn("Callback job " + job.getId() + " for attachment " + job.getAttachmentId() + " failed ("
+                        + job.getLastError() + "), retrying in " + delay + " ms");
+
+                job.setNextAttempt(System.currentTimeMillis() + delay);
+                write(job, CallbackJobState.PENDING);
+                retried.incrementAndGet();
+            }
+
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            log.error("Unable to reschedule callback job " + job.getId(), e);
+        }
+    }
+
+    private long getRetryDelay(final int attempts) {
+        long retryDelay = settingsManager.getSettingLong("callbacks.queue.retryDelay", DEFAULT_RETRY_DELAY);
+        long maxRetryDelay = settingsManager.getSettingLong("callbacks.queue.maxRetryDelay",
+                DEFAULT_MAX_RETRY_DELAY);
+
+        long delay = retryDelay << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+
+        return TimeUnit.SECONDS.toMillis(Math.min(delay, maxRetryDelay));
+    }
+
+    private void touchActiveFiles() {
+        FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+        Set<String> names = new HashSet<>(locks);
+        names.addAll(inProgress);
+
+        for (String name : names) {
+            try {
+                Files.setLastModifiedTime(new File(getDirectory(CallbackJobState.PROCESSING), name).toPath(), now);
+            } catch (IOException e) {
+                log.debug("Unable to touch callback file " + name + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void recoverStaleJobs() {
+        long timeout = TimeUnit.SECONDS.toMillis(settingsManager.getSettingLong("callbacks.queue.processingTimeout",
+                DEFAULT_PROCESSING_TIMEOUT));
+        long now = System.currentTimeMillis();
+
+        for (File file : listJobFiles(CallbackJobState.PROCESSING)) {
+            if (!inProgress.contains(file.getName()) && now - file.lastModified() > timeout) {
+                log.warn("Callback job " + file.getName() + " was abandoned while processing, requeueing it");
+                move(file, getDirectory(CallbackJobState.PENDING));
+            }
+        }
+
+        File[] lockFiles = getDirectory(CallbackJobState.PROCESSING)
+                .listFiles((dir, name) -> name.endsWith(LOCK_FILE_EXTENSION));
+
+        if (lockFiles != null) {
+            for (File lockFile : lockFiles) {
+                if (!locks.contains(lockFile.getName()) && now - lockFile.lastModified() > timeout) {
+                    log.warn("Callback lock " + lockFile.getName() + " was abandoned, releasing it");
+
+                    try {
+                        Files.deleteIfExists(lockFile.toPath());
+                    } catch (IOException e) {
+                        log.error("Unable to release callback lock " + lockFile.getName() + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private void write(final CallbackJob job, final CallbackJobState state) throws IOException {
+        File target = new File(getDirectory(state), getFileName(job, state));
+        Path tempFile = Files.createTempFile(directory.toPath(), job.getId(), ".tmp");
+
+        try {
+            objectMapper.writeValue(tempFile.toFile(), job);
+
+            try {
+                Files.move(tempFile, target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private CallbackJob read(final File file) throws IOException {
+        return objectMapper.readValue(file, CallbackJob.class);
+    }
+
+    private void move(final File file, final File targetDirectory) {
+        try {
+            Files.move(file.toPath(), new File(targetDirectory, file.getName()).toPath(),
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Unable to move callback job " + file.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private List<File> listJobFiles(final CallbackJobState state) {
+        File[] files = getDirectory(state).listFiles((dir, name) -> name.endsWith(JOB_FILE_EXTENSION));
+
+        if (files == null) {
+            return Collections.emptyList();
+        }
+
+        List<File> result = Arrays.asList(files);
+        Collections.sort(result);
+
+        return result;
+    }
+
+    private File findJobFile(final CallbackJobState state, final String id) {
+        if (id == null || id.isEmpty()) {
+            return null;
+        }
+
+        for (File file : listJobFiles(state)) {
+            if (file.getName().endsWith("_" + id + JOB_FILE_EXTENSION)) {
+                return file;
+            }
+        }
+
+        return null;
+    }
+
+    private String getFileName(final CallbackJob job, final CallbackJobState state) {
+        long order = state == CallbackJobState.PENDING ? job.getNextAttempt() : job.getCreated();
+
+        return String.format("%019d_%s%s", order, job.getId(), JOB_FILE_EXTENSION);
+    }
+
+    private File getDirectory(final CallbackJobState state) {
+        return new File(directory, state.getDirectoryName());
+    }
+
+    private static final class PendingJob {
+        private final File file;
+        private final CallbackJob job;
+
+        PendingJob(final File file, final CallbackJob job) {
+            this.file = file;
+            this.job = job;
+        }
+
+        File getFile() {
+            return file;
+        }
+
+        CallbackJob getJob() {
+            return job;
+        }
+    }
+
+    private static final class CallbackJobException extends RuntimeException {
+        CallbackJobException(final Throwable cause) {
+            super(cause);
+        }
+    }
+}
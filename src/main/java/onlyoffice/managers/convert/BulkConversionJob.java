@@ -0,0 +1,195 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.convert;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class BulkConversionJob {
+    private String id;
+    private String spaceKey;
+    private Long pageId;
+    private boolean includeChildren;
+    private String userKey;
+    private BulkConversionState state;
+    private boolean scanned;
+    private Set<Long> pending = new LinkedHashSet<>();
+    private int total;
+    private int converted;
+    private int skipped;
+    private int failed;
+    private long bytes;
+    private long created;
+    private long updated;
+    private String lastError;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public String getSpaceKey() {
+        return spaceKey;
+    }
+
+    public void setSpaceKey(final String spaceKey) {
+        this.spaceKey = spaceKey;
+    }
+
+    public Long getPageId() {
+        return pageId;
+    }
+
+    public void setPageId(final Long pageId) {
+        this.pageId = pageId;
+    }
+
+    public boolean isIncludeChildren() {
+        return includeChildren;
+    }
+
+    public void setIncludeChildren(final boolean includeChildren) {
+        this.includeChildren = includeChildren;
+    }
+
+    public String getUserKey() {
+        return userKey;
+    }
+
+    public void setUserKey(final String userKey) {
+        this.userKey = userKey;
+    }
+
+    public synchronized BulkConversionState getState() {
+        return state;
+    }
+
+    public synchronized void setState(final BulkConversionState state) {
+        this.state = state;
+    }
+
+    public synchronized boolean isScanned() {
+        return scanned;
+    }
+
+    public synchronized void setScanned(final boolean scanned) {
+        this.scanned = scanned;
+    }
+
+    public synchronized List<Long> getPending() {
+        return new ArrayList<>(pending);
+    }
+
+    public synchronized void setPending(final List<Long> pending) {
+        this.pending = new LinkedHashSet<>(pending);
+    }
+
+    public synchronized int getTotal() {
+        return total;
+    }
+
+    public synchronized void setTotal(final int total) {
+        this.total = total;
+    }
+
+    public synchronized int getConverted() {
+        return converted;
+    }
+
+    public synchronized void setConverted(final int converted) {
+        this.converted = converted;
+    }
+
+    public synchronized int getSkipped() {
+        return skipped;
+    }
+
+    public synchronized void setSkipped(final int skipped) {
+        this.skipped = skipped;
+    }
+
+    public synchronized int getFailed() {
+        return failed;
+    }
+
+    public synchronized void setFailed(final int failed) {
+        this.failed = failed;
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized void setBytes(final long bytes) {
+        this.bytes = bytes;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(final long created) {
+        this.created = created;
+    }
+
+    public synchronized long getUpdated() {
+        return updated;
+    }
+
+    public synchronized void setUpdated(final long updated) {
+        this.updated = updated;
+    }
+
+    public synchronized String getLastError() {
+        return lastError;
+    }
+
+    public synchronized void setLastError(final String lastError) {
+        this.lastError = lastError;
+    }
+
+    public synchronized int getProcessed() {
+        return converted + skipped + failed;
+    }
+
+    public synchronized void markConverted(final Long attachmentId, final long size) {
+        pending.remove(attachmentId);
+        converted++;
+        bytes += size;
+        updated = System.currentTimeMillis();
+    }
+
+    public synchronized void markSkipped(final Long attachmentId) {
+        pending.remove(attachmentId);
+        skipped++;
+        updated = System.currentTimeMillis();
+    }
+
+    public synchronized void markFailed(final Long attachmentId, final String error) {
+        pending.remove(attachmentId);
+        failed++;
+        lastError = error;
+        updated = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,743 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.convert;
+
+import com.atlassian.beehive.ClusterLock;
+import com.atlassian.beehive.ClusterLockService;
+import com.atlassian.confluence.languages.LocaleManager;
+import com.atlassian.confluence.pages.Attachment;
+import com.atlassian.confluence.pages.AttachmentManager;
+import com.atlassian.confluence.pages.Page;
+import com.atlassian.confluence.pages.PageManager;
+import com.atlassian.confluence.setup.BootstrapManager;
+import com.atlassian.confluence.spaces.Space;
+import com.atlassian.confluence.spaces.SpaceManager;
+import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
+import com.atlassian.confluence.user.ConfluenceUser;
+import com.atlassian.confluence.user.UserAccessor;
+import com.atlassian.sal.api.transaction.TransactionTemplate;
+import com.atlassian.sal.api.user.UserKey;
+import com.atlassian.spring.container.ContainerManager;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlyoffice.client.DocumentServerClient;
+import onlyoffice.managers.async.NamedThreadFactory;
+import onlyoffice.managers.cache.ConversionCacheManager;
+import onlyoffice.sdk.manager.document.DocumentManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.stream.SpoolOutputStream;
+import onlyoffice.utils.stream.StreamUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+public class BulkConversionManagerImpl implements BulkConversionManager, InitializingBean, DisposableBean {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.convert.BulkConversionManager");
+
+    private static final String BULK_DIRECTORY = "onlyoffice/conversions/bulk";
+    private static final String JOB_FILE_EXTENSION = ".json";
+    private static final String JOB_LOCK_PREFIX = "onlyoffice.bulk-conversion.job.";
+    private static final String ATTACHMENT_LOCK_PREFIX = "onlyoffice.bulk-conversion.attachment.";
+    private static final int DEFAULT_PARALLELISM = 2;
+    private static final int DEFAULT_CHECKPOINT_INTERVAL = 25;
+    private static final long DEFAULT_RESUME_DELAY = 60L;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final int PERCENT = 100;
+    private static final Pattern JOB_ID_PATTERN = Pattern.compile("[0-9A-Fa-f-]+");
+    private static final Set<String> TARGET_EXTENSIONS = new HashSet<>(Arrays.asList("docx", "xlsx", "pptx"));
+
+    private final PageManager pageManager;
+    private final AttachmentManager attachmentManager;
+    private final AttachmentUtil attachmentUtil;
+    private final DocumentManager documentManager;
+    private final LocaleManager localeManager;
+    private final ConversionTracker conversionTracker;
+    private final ConversionCacheManager conversionCacheManager;
+    private final DocumentServerClient documentServerClient;
+    private final StreamUtil streamUtil;
+    private final SettingsManager settingsManager;
+    private final BootstrapManager bootstrapManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLockService clusterLockService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Map<String, BulkConversionJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, RunStatistics> runs = new ConcurrentHashMap<>();
+
+    private File directory;
+    private int parallelism;
+    private ScheduledThreadPoolExecutor runner;
+    private ThreadPoolExecutor workers;
+
+    public BulkConversionManagerImpl(final PageManager pageManager, final AttachmentManager attachmentManager,
+                                     final AttachmentUtil attachmentUtil, final DocumentManager documentManager,
+                                     final LocaleManager localeManager, final ConversionTracker conversionTracker,
+                                     final ConversionCacheManager conversionCacheManager,
+                                     final DocumentServerClient documentServerClient, final StreamUtil streamUtil,
+                                     final SettingsManager settingsManager, final BootstrapManager bootstrapManager,
+                                     final TransactionTemplate transactionTemplate,
+                                     final ClusterLockService clusterLockService) {
+        this.pageManager = pageManager;
+        this.attachmentManager = attachmentManager;
+        this.attachmentUtil = attachmentUtil;
+        this.documentManager = documentManager;
+        this.localeManager = localeManager;
+        this.conversionTracker = conversionTracker;
+        this.conversionCacheManager = conversionCacheManager;
+        this.documentServerClient = documentServerClient;
+        this.streamUtil = streamUtil;
+        this.settingsManager = settingsManager;
+        this.bootstrapManager = bootstrapManager;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterLockService = clusterLockService;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        File sharedHome = bootstrapManager.getSharedHome();
+        directory = new File(sharedHome != null ? sharedHome : bootstrapManager.getLocalHome(), BULK_DIRECTORY);
+        directory.mkdirs();
+
+        parallelism = Math.max(1, settingsManager.getSettingInteger("conversion.bulk.parallelism",
+                DEFAULT_PARALLELISM));
+
+        workers = new ThreadPoolExecutor(parallelism, parallelism, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new NamedThreadFactory("onlyoffice-bulk-conversion-worker"));
+        workers.allowCoreThreadTimeOut(true);
+
+        runner = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("onlyoffice-bulk-conversion"));
+        runner.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+        long resumeDelay = settingsManager.getSettingLong("conversion.bulk.resumeDelay", DEFAULT_RESUME_DELAY);
+
+        runner.scheduleWithFixedDelay(this::resumeJobs, resumeDelay, resumeDelay, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (runner != null) {
+            runner.shutdownNow();
+        }
+
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    public BulkConversionJob start(final String spaceKey, final Long pageId, final boolean includeChildren,
+                                   final ConfluenceUser user) {
+        if ((spaceKey == null || spaceKey.isEmpty()) && pageId == null) {
+            throw new IllegalArgumentException("Space key or page id is required");
+        }
+
+        long now = System.currentTimeMillis();
+
+        BulkConversionJob job = new BulkConversionJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setSpaceKey(pageId == null ? spaceKey : null);
+        job.setPageId(pageId);
+        job.setIncludeChildren(includeChildren);
+        job.setUserKey(user.getKey().getStringValue());
+        job.setState(BulkConversionState.QUEUED);
+        job.setCreated(now);
+        job.setUpdated(now);
+
+        write(job);
+        runner.execute(() -> run(job.getId()));
+
+        return job;
+    }
+
+    public boolean pause(final String id) {
+        BulkConversionJob job = getJob(id);
+
+        if (job == null) {
+            return false;
+        }
+
+        synchronized (job) {
+            if (job.getState().isFinal() || job.getState() == BulkConversionState.PAUSED) {
+                return false;
+            }
+
+            job.setState(BulkConversionState.PAUSED);
+            write(job);
+        }
+
+        return true;
+    }
+
+    public boolean resume(final String id) {
+        BulkConversionJob job = getJob(id);
+
+        if (job == null) {
+            return false;
+        }
+
+        synchronized (job) {
+            if (job.getState() != BulkConversionState.PAUSED) {
+                return false;
+            }
+
+            job.setState(BulkConversionState.QUEUED);
+            write(job);
+        }
+
+        runner.execute(() -> run(id));
+
+        return true;
+    }
+
+    public boolean cancel(final String id) {
+        BulkConversionJob job = getJob(id);
+
+        if (job == null) {
+            return false;
+        }
+
+        synchronized (job) {
+            if (job.getState().isFinal()) {
+                return false;
+            }
+
+            job.setState(BulkConversionState.CANCELLED);
+            write(job);
+        }
+
+        return true;
+    }
+
+    public List<Map<String, Object>> getJobs() {
+        Map<String, BulkConversionJob> all = new LinkedHashMap<>();
+
+        for (BulkConversionJob job : load()) {
+            all.put(job.getId(), job);
+        }
+
+        all.putAll(jobs);
+
+        List<BulkConversionJob> sorted = new ArrayList<>(all.values());
+        sorted.sort(Comparator.comparingLong(BulkConversionJob::getCreated).reversed());
+
+        List<Map<String, Object>> result = new ArrayList<>();
+
+        for (BulkConversionJob job : sorted) {
+            Map<String, Object> status = new LinkedHashMap<>();
+            int total = job.getTotal();
+            int processed = job.getProcessed();
+
+            status.put("id", job.getId());
+            status.put("state", job.getState());
+            status.put("spaceKey", job.getSpaceKey());
+            status.put("pageId", job.getPageId());
+            status.put("includeChildren", job.isIncludeChildren());
+            status.put("scanned", job.isScanned());
+            status.put("total", total);
+            status.put("processed", processed);
+            status.put("converted", job.getConverted());
+            status.put("skipped", job.getSkipped());
+            status.put("failed", job.getFailed());
+            status.put("bytes", job.getBytes());
+            status.put("percent", total > 0 ? processed * PERCENT / total : 0);
+            status.put("perMinute", getThroughput(job));
+            status.put("created", job.getCreated());
+            status.put("updated", job.getUpdated());
+            status.put("lastError", job.getLastError());
+
+            result.add(status);
+        }
+
+        return result;
+    }
+
+    private void resumeJobs() {
+        try {
+            for (BulkConversionJob job : load()) {
+                if (!jobs.containsKey(job.getId()) && (job.getState() == BulkConversionState.QUEUED
+                        || job.getState() == BulkConversionState.RUNNING)) {
+                    run(job.getId());
+                }
+            }
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    private void run(final String id) {
+        ClusterLock lock = clusterLockService.getLockForName(JOB_LOCK_PREFIX + id);
+
+        if (!lock.tryLock()) {
+            log.debug("Bulk conversion " + id + " is running on another node");
+            return;
+        }
+
+        try {
+            BulkConversionJob job = read(id);
+
+            if (job == null) {
+                return;
+            }
+
+            synchronized (job) {
+                if (job.getState() != BulkConversionState.QUEUED && job.getState() != BulkConversionState.RUNNING) {
+                    return;
+                }
+
+                if (job.getState() == BulkConversionState.RUNNING) {
+                    log.info("Resuming bulk conversion " + id + " with " + job.getPending().size()
+                            + " attachments left");
+                }
+
+                job.setState(BulkConversionState.RUNNING);
+            }
+
+            jobs.put(id, job);
+
+            try {
+                run(job);
+            } finally {
+                jobs.remove(id, job);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run(final BulkConversionJob job) {
+        ConfluenceUser user = transactionTemplate.execute(() -> {
+            UserAccessor userAccessor = (UserAccessor) ContainerManager.getComponent("userAccessor");
+            return userAccessor.getUserByKey(new UserKey(job.getUserKey()));
+        });
+
+        if (user == null) {
+            job.setLastError("User " + job.getUserKey() + " not found");
+            job.setState(BulkConversionState.CANCELLED);
+            checkpoint(job);
+            return;
+        }
+
+        if (!job.isScanned()) {
+            transactionTemplate.execute(() -> {
+                scan(job);
+                return null;
+            });
+            checkpoint(job);
+
+            log.info("Bulk conversion " + job.getId() + " found " + job.getTotal() + " attachments to convert");
+        }
+
+        int checkpointInterval = Math.max(1, settingsManager.getSettingInteger("conversion.bulk.checkpointInterval",
+                DEFAULT_CHECKPOINT_INTERVAL));
+        AtomicInteger sinceCheckpoint = new AtomicInteger();
+        Semaphore permits = new Semaphore(parallelism);
+
+        runs.put(job.getId(), new RunStatistics(job.getProcessed()));
+
+        try {
+            int submitted = 0;
+
+            for (Long attachmentId : job.getPending()) {
+                if (submitted++ % checkpointInterval == 0) {
+                    syncState(job);
+                }
+
+                if (job.getState() != BulkConversionState.RUNNING) {
+                    break;
+                }
+
+                permits.acquire();
+
+                try {
+                    workers.execute(() -> {
+                        try {
+                            process(job, attachmentId, user);
+                        } finally {
+                            permits.release();
+
+                            if (sinceCheckpoint.incrementAndGet() % checkpointInterval == 0) {
+                                checkpoint(job);
+                            }
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    return;
+                }
+            }
+
+            permits.acquire(parallelism);
+            permits.release(parallelism);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            runs.remove(job.getId());
+            checkpoint(job);
+        }
+
+        synchronized (job) {
+            if (job.getState() == BulkConversionState.RUNNING && job.getPending().isEmpty()) {
+                job.setState(BulkConversionState.COMPLETED);
+            }
+        }
+
+        checkpoint(job);
+
+        log.info("Bulk conversion " + job.getId() + " " + job.getState().name().toLowerCase() + ": "
+                + job.getConverted() + " converted, " + job.getSkipped() + " skipped, " + job.getFailed()
+                + " failed");
+    }
+
+    private void scan(final BulkConversionJob job) {
+        List<Page> pages = new ArrayList<>();
+
+        if (job.getPageId() != null) {
+            Page page = pageManager.getPage(job.getPageId());
+
+            if (page != null) {
+                pages.add(page);
+
+                if (job.isIncludeChildren()) {
+                    pages.addAll(page.getDescendants());
+                }
+            }
+        } else {
+            SpaceManager spaceManager = (SpaceManager) ContainerManager.getComponent("spaceManager");
+            Space space = spaceManager.getSpace(job.getSpaceKey());
+
+            if (space != null) {
+                pages.addAll(pageManager.getPages(space, true));
+            }
+        }
+
+        List<Long> attachmentIds = new ArrayList<>();
+
+        for (Page page : pages) {
+            for (Attachment attachment : attachmentManager.getLatestVersionsOfAttachments(page)) {
+                if (getTargetExtension(attachment.getFileName()) != null) {
+                    attachmentIds.add(attachment.getId());
+                }
+            }
+        }
+
+        job.setPending(attachmentIds);
+        job.setTotal(attachmentIds.size());
+        job.setScanned(true);
+    }
+
+    private void process(final BulkConversionJob job, final Long attachmentId, final ConfluenceUser user) {
+        ClusterLock lock = clusterLockService.getLockForName(ATTACHMENT_LOCK_PREFIX + attachmentId);
+
+        if (!lock.tryLock()) {
+            log.info("Attachment " + attachmentId + " is being converted by another bulk conversion, skipping it");
+            job.markSkipped(attachmentId);
+            return;
+        }
+
+        try {
+            Target target = transactionTemplate.execute(() -> getTarget(attachmentId, user));
+
+            if (target == null) {
+                job.markSkipped(attachmentId);
+                return;
+            }
+
+            String key = conversionCacheManager.getKey(attachmentId, target.extension, target.region, false);
+            File file = conversionCacheManager.get(key);
+            String fileUrl = null;
+
+            if (file == null) {
+                ConversionJob conversion = conversionTracker.submit(key, attachmentId, target.extension,
+                        target.region, false, user);
+
+                while (!conversion.isFinished() && !Thread.currentThread().isInterrupted()) {
+                    conversionTracker.await(conversion, conversion.getPercent());
+                }
+
+                if (!conversion.isFinished()) {
+                    return;
+                }
+
+                if (conversion.getError() != null) {
+                    job.markFailed(attachmentId, "Attachment " + attachmentId + ": " + conversion.getError().name());
+                    return;
+                }
+
+                file = conversion.getFile();
+                fileUrl = conversion.getFileUrl();
+            }
+
+            long size = save(attachmentId, file, fileUrl, target, user);
+
+            job.markConverted(attachmentId, size);
+        } catch (Exception e) {
+            log.warn("Bulk conversion of attachment " + attachmentId + " failed: " + e.getMessage());
+            job.markFailed(attachmentId, "Attachment " + attachmentId + ": " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Target getTarget(final Long attachmentId, final ConfluenceUser user) {
+        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+
+        if (attachment == null || !attachment.isLatestVersion()) {
+            return null;
+        }
+
+        String fileName = attachment.getFileName();
+        String extension = getTargetExtension(fileName);
+        Long pageId = attachment.getContainer().getId();
+
+        if (extension == null
+                || !attachmentUtil.checkAccess(attachment, user, false)
+                || !attachmentUtil.checkAccessCreate(user, pageId)) {
+            return null;
+        }
+
+        String title = fileName.substring(0, fileName.lastIndexOf("."));
+
+        if (attachmentUtil.getAttachmentByName(title + "." + extension, pageId) != null) {
+            return null;
+        }
+
+        Target target = new Target();
+        target.extension = extension;
+        target.region = localeManager.getLocale(user).toLanguageTag();
+        target.pageId = pageId;
+        target.fileName = documentManager.getCorrectNewFileName(title, extension, pageId);
+
+        return target;
+    }
+
+    private long save(final Long attachmentId, final File file, final String fileUrl, final Target target,
+                      final ConfluenceUser user) throws IOException {
+        SpoolOutputStream spool = null;
+
+        try {
+            long size;
+
+            if (file != null && file.exists()) {
+                size = file.length();
+            } else {
+                spool = streamUtil.createSpool();
+                documentServerClient.getFile(fileUrl, spool);
+                size = spool.getSize();
+            }
+
+            SpoolOutputStream source = spool;
+
+            transactionTemplate.execute(() -> {
+                AuthenticatedUserThreadLocal.set(user);
+
+                try (InputStream inputStream = source != null ? source.getInputStream() : new FileInputStream(file)) {
+                    Attachment attachment = attachmentManager.getAttachment(attachmentId);
+
+                    return attachmentUtil.saveAttachmentCopy(attachment, inputStream, size, target.fileName,
+                            documentManager.getMimeType(target.fileName), target.pageId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    AuthenticatedUserThreadLocal.reset();
+                }
+            });
+
+            return size;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            if (spool != null) {
+                spool.discard();
+            }
+        }
+    }
+
+    private String getTargetExtension(final String fileName) {
+        String extension = documentManager.getExtension(fileName);
+        String target = documentManager.getDefaultConvertExtension(fileName);
+
+        if (target == null || !TARGET_EXTENSIONS.contains(target) || target.equals(extension)) {
+            return null;
+        }
+
+        return target;
+    }
+
+    private double getThroughput(final BulkConversionJob job) {
+        RunStatistics run = runs.get(job.getId());
+
+        if (run == null) {
+            return 0;
+        }
+
+        long elapsed = System.currentTimeMillis() - run.started;
+
+        if (elapsed <= 0) {
+            return 0;
+        }
+
+        return (double) (job.getProcessed() - run.processed) * TimeUnit.MINUTES.toMillis(1) / elapsed;
+    }
+
+    private void checkpoint(final BulkConversionJob job) {
+        synchronized (job) {
+            syncState(job);
+            write(job);
+        }
+    }
+
+    private void syncState(final BulkConversionJob job) {
+        BulkConversionJob stored = read(job.getId());
+
+        if (stored == null) {
+            return;
+        }
+
+        synchronized (job) {
+            BulkConversionState state = stored.getState();
+
+            if ((state == BulkConversionState.PAUSED || state == BulkConversionState.CANCELLED)
+                    && !job.getState().isFinal() && job.getState() != state) {
+                log.info("Bulk conversion " + job.getId() + " was " + state.name().toLowerCase()
+                        + " on another node");
+
+                job.setState(state);
+            }
+        }
+    }
+
+    private void write(final BulkConversionJob job) {
+        synchronized (job) {
+            job.setUpdated(System.currentTimeMillis());
+
+            try {
+                File target = new File(directory, job.getId() + JOB_FILE_EXTENSION);
+                Path tempFile = Files.createTempFile(directory.toPath(), job.getId(), ".tmp");
+
+                try {
+                    objectMapper.writeValue(tempFile.toFile(), job);
+
+                    try {
+                        Files.move(tempFile, target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(tempFile, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+            } catch (IOException e) {
+                log.error("Unable to write checkpoint of bulk conversion " + job.getId() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private BulkConversionJob getJob(final String id) {
+        BulkConversionJob job = jobs.get(id);
+
+        return job != null ? job : read(id);
+    }
+
+    private BulkConversionJob read(final String id) {
+        if (id == null || !JOB_ID_PATTERN.matcher(id).matches()) {
+            return null;
+        }
+
+        File file = new File(directory, id + JOB_FILE_EXTENSION);
+
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(file, BulkConversionJob.class);
+        } catch (IOException e) {
+            log.error("Unable to read bulk conversion " + file.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private List<BulkConversionJob> load() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(JOB_FILE_EXTENSION));
+
+        if (files == null) {
+            return Collections.emptyList();
+        }
+
+        List<BulkConversionJob> result = new ArrayList<>();
+
+        for (File file : files) {
+            try {
+                result.add(objectMapper.readValue(file, BulkConversionJob.class));
+            } catch (IOException e) {
+                log.error("Unable to read bulk conversion " + file.getName() + ": " + e.getMessage());
+            }
+        }
+
+        return result;
+    }
+
+    private static final class Target {
+        private String extension;
+        private String region;
+        private Long pageId;
+        private String fileName;
+    }
+
+    private static final class RunStatistics {
+        private final long started = System.currentTimeMillis();
+        private final int processed;
+
+        RunStatistics(final int processed) {
+            this.processed = processed;
+        }
+    }
+}
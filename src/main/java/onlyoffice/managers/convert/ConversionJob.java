@@ -0,0 +1,202 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.convert;
+
+import com.atlassian.confluence.user.ConfluenceUser;
+import com.onlyoffice.model.common.CommonResponse;
+import com.onlyoffice.model.convertservice.ConvertResponse;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ConversionJob {
+    private static final int CONVERSION_COMPLETE = 100;
+
+    private final String id;
+    private final String key;
+    private final Long attachmentId;
+    private final String outputType;
+    private final String region;
+    private final boolean form;
+    private final ConfluenceUser user;
+    private final long created = System.currentTimeMillis();
+    private final Set<String> userKeys = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> results = new HashMap<>();
+
+    private int percent = 0;
+    private boolean finished = false;
+    private String fileUrl;
+    private String fileType;
+    private File file;
+    private CommonResponse.Error error;
+    private long delay;
+
+    public ConversionJob(final String id, final String key, final Long attachmentId, final String outputType,
+                         final String region, final boolean form, final ConfluenceUser user) {
+        this.id = id;
+        this.key = key;
+        this.attachmentId = attachmentId;
+        this.outputType = outputType;
+        this.region = region;
+        this.form = form;
+        this.user = user;
+
+        addUser(user);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Long getAttachmentId() {
+        return attachmentId;
+    }
+
+    public String getOutputType() {
+        return outputType;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public boolean isForm() {
+        return form;
+    }
+
+    public ConfluenceUser getUser() {
+        return user;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void addUser(final ConfluenceUser confluenceUser) {
+        if (confluenceUser != null) {
+            userKeys.add(confluenceUser.getKey().getStringValue());
+        }
+    }
+
+    public boolean hasUser(final ConfluenceUser confluenceUser) {
+        return confluenceUser != null && userKeys.contains(confluenceUser.getKey().getStringValue());
+    }
+
+    public long getDelay() {
+        return delay;
+    }
+
+    public void setDelay(final long delay) {
+        this.delay = delay;
+    }
+
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    public synchronized int getPercent() {
+        return percent;
+    }
+
+    public synchronized String getFileUrl() {
+        return fileUrl;
+    }
+
+    public synchronized File getFile() {
+        return file;
+    }
+
+    public synchronized CommonResponse.Error getError() {
+        return error;
+    }
+
+    public synchronized void update(final int newPercent) {
+        if (!finished && newPercent > percent) {
+            percent = newPercent;
+            notifyAll();
+        }
+    }
+
+    public synchronized void complete(final String resultFileUrl, final String resultFileType,
+                                      final File resultFile) {
+        fileUrl = resultFileUrl;
+        fileType = resultFileType;
+        file = resultFile;
+        percent = CONVERSION_COMPLETE;
+        finished = true;
+        notifyAll();
+    }
+
+    public synchronized void fail(final CommonResponse.Error conversionError) {
+        error = conversionError;
+        finished = true;
+        notifyAll();
+    }
+
+    public synchronized void await(final int knownPercent, final long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+
+        while (!finished && percent <= knownPercent && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+    }
+
+    public Long consume(final ConfluenceUser confluenceUser, final String target, final Callable<Long> saver)
+            throws Exception {
+        String userKey = confluenceUser != null ? confluenceUser.getKey().getStringValue() : "";
+        String resultKey = userKey + "/" + target;
+
+        synchronized (results) {
+            Long result = results.get(resultKey);
+
+            if (result == null) {
+                result = saver.call();
+                results.put(resultKey, result);
+            }
+
+            return result;
+        }
+    }
+
+    public synchronized ConvertResponse toResponse() {
+        ConvertResponse convertResponse = new ConvertResponse();
+
+        if (error != null) {
+            convertResponse.setError(error);
+            return convertResponse;
+        }
+
+        convertResponse.setEndConvert(finished);
+        convertResponse.setPercent(percent);
+        convertResponse.setFileUrl(fileUrl);
+        convertResponse.setFileType(fileType != null ? fileType : outputType);
+
+        return convertResponse;
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.convert;
+
+import com.atlassian.confluence.user.ConfluenceUser;
+
+import java.util.Map;
+
+public interface ConversionTracker {
+    ConversionJob submit(String key, Long attachmentId, String outputType, String region, boolean form,
+                         ConfluenceUser user);
+
+    ConversionJob getJob(String id, ConfluenceUser user);
+
+    ConversionJob await(ConversionJob job, int knownPercent);
+
+    int getActiveCount();
+
+    Map<String, Object> getStatistics();
+}
@@ -0,0 +1,278 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.convert;
+
+import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
+import com.atlassian.confluence.user.ConfluenceUser;
+import com.atlassian.sal.api.transaction.TransactionTemplate;
+import com.onlyoffice.model.common.CommonResponse;
+import com.onlyoffice.model.convertservice.ConvertRequest;
+import com.onlyoffice.model.convertservice.ConvertResponse;
+import com.onlyoffice.model.convertservice.convertrequest.PDF;
+import com.onlyoffice.service.convert.ConvertService;
+import onlyoffice.managers.async.NamedThreadFactory;
+import onlyoffice.managers.cache.ConversionCacheManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import onlyoffice.sdk.manager.url.UrlManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConversionTrackerImpl implements ConversionTracker, InitializingBean, DisposableBean {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.convert.ConversionTracker");
+
+    private static final int DEFAULT_THREADS = 4;
+    private static final long DEFAULT_INITIAL_DELAY = 500L;
+    private static final long DEFAULT_MAX_DELAY = 5000L;
+    private static final long DEFAULT_TIMEOUT = 300L;
+    private static final long DEFAULT_RETENTION = 60L;
+    private static final long DEFAULT_LONG_POLL_TIMEOUT = 20L;
+    private static final double BACKOFF_MULTIPLIER = 1.5;
+
+    private final ConvertService convertService;
+    private final ConversionCacheManager conversionCacheManager;
+    private final SettingsManager settingsManager;
+    private final TransactionTemplate transactionTemplate;
+    private final UrlManager urlManager;
+
+    private final ConcurrentMap<String, ConversionJob> jobsById = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConversionJob> jobsByKey = new ConcurrentHashMap<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong upstreamPolls = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private ScheduledThreadPoolExecutor executor;
+
+    public ConversionTrackerImpl(final ConvertService convertService,
+                                 final ConversionCacheManager conversionCacheManager,
+                                 final SettingsManager settingsManager,
+                                 final TransactionTemplate transactionTemplate, final UrlManager urlManager) {
+        this.convertService = convertService;
+        this.conversionCacheManager = conversionCacheManager;
+        this.settingsManager = settingsManager;
+        this.transactionTemplate = transactionTemplate;
+        this.urlManager = urlManager;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        int threads = settingsManager.getSettingInteger("conversion.threads", DEFAULT_THREADS);
+
+        executor = new ScheduledThreadPoolExecutor(threads, new NamedThreadFactory("onlyoffice-conversion"));
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+
+        for (ConversionJob job : jobsById.values()) {
+            job.fail(CommonResponse.Error.UNKNOWN);
+        }
+    }
+
+    public ConversionJob submit(final String key, final Long attachmentId, final String outputType,
+                                final String region, final boolean form, final ConfluenceUser user) {
+        ConversionJob job;
+
+        synchronized (this) {
+            job = jobsByKey.get(key);
+
+            if (job != null && !job.isFinished()) {
+                job.addUser(user);
+                coalesced.incrementAndGet();
+
+                return job;
+            }
+
+            job = new ConversionJob(UUID.randomUUID().toString(), key, attachmentId, outputType, region, form, user);
+            job.setDelay(settingsManager.getSettingLong("conversion.initialDelay", DEFAULT_INITIAL_DELAY));
+
+            jobsById.put(job.getId(), job);
+            jobsByKey.put(key, job);
+        }
+
+        submitted.incrementAndGet();
+        schedule(job, 0);
+
+        return job;
+    }
+
+    public ConversionJob getJob(final String id, final ConfluenceUser user) {
+        ConversionJob job = id != null ? jobsById.get(id) : null;
+
+        if (job == null || !job.hasUser(user)) {
+            return null;
+        }
+
+        return job;
+    }
+
+    public ConversionJob await(final ConversionJob job, final int knownPercent) {
+        long timeout = settingsManager.getSettingLong("conversion.longPollTimeout", DEFAULT_LONG_POLL_TIMEOUT);
+
+        try {
+            job.await(knownPercent, TimeUnit.SECONDS.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return job;
+    }
+
+    public int getActiveCount() {
+        return jobsByKey.size();
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+
+        statistics.put("active", jobsByKey.size());
+        statistics.put("submitted", submitted.get());
+        statistics.put("coalesced", coalesced.get());
+        statistics.put("upstreamPolls", upstreamPolls.get());
+        statistics.put("completed", completed.get());
+        statistics.put("failed", failed.get());
+
+        return statistics;
+    }
+
+    private void schedule(final ConversionJob job, final long delay) {
+        try {
+            executor.schedule(() -> poll(job), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            finish(job, CommonResponse.Error.UNKNOWN);
+        }
+    }
+
+    private void poll(final ConversionJob job) {
+        long timeout = TimeUnit.SECONDS.toMillis(settingsManager.getSettingLong("conversion.timeout",
+                DEFAULT_TIMEOUT));
+
+        if (System.currentTimeMillis() - job.getCreated() > timeout) {
+            finish(job, CommonResponse.Error.TIMEOUT);
+            return;
+        }
+
+        upstreamPolls.incrementAndGet();
+
+        try {
+            ConvertResponse convertResponse = transactionTemplate.execute(() -> {
+                AuthenticatedUserThreadLocal.set(job.getUser());
+
+                try {
+                    return convertService.processConvert(createConvertRequest(job),
+                            String.valueOf(job.getAttachmentId()));
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new ConversionException(e);
+                }
+            });
+
+            if (convertResponse.getError() != null) {
+                finish(job, convertResponse.getError());
+            } else if (convertResponse.getEndConvert() != null && convertResponse.getEndConvert()) {
+                File file = null;
+
+                try {
+                    file = conversionCacheManager.put(job.getKey(),
+                            urlManager.replaceToInnerDocumentServerUrl(convertResponse.getFileUrl()));
+                } catch (IOException e) {
+                    log.warn("Unable to cache conversion result: " + e.getMessage());
+                }
+
+                job.complete(convertResponse.getFileUrl(), convertResponse.getFileType(), file);
+                completed.incrementAndGet();
+                release(job);
+            } else {
+                if (convertResponse.getPercent() != null) {
+                    job.update(convertResponse.getPercent());
+                }
+
+                long maxDelay = settingsManager.getSettingLong("conversion.maxDelay", DEFAULT_MAX_DELAY);
+                long delay = job.getDelay();
+
+                job.setDelay(Math.min((long) (delay * BACKOFF_MULTIPLIER), maxDelay));
+                schedule(job, delay);
+            }
+        } catch (Exception e) {
+            log.error("Conversion of attachment " + job.getAttachmentId() + " failed", e);
+            finish(job, CommonResponse.Error.CONNECTION);
+        } finally {
+            AuthenticatedUserThreadLocal.reset();
+        }
+    }
+
+    private ConvertRequest createConvertRequest(final ConversionJob job) {
+        ConvertRequest convertRequest = ConvertRequest.builder()
+                .async(true)
+                .outputtype(job.getOutputType())
+                .region(job.getRegion())
+                .build();
+
+        if (job.isForm()) {
+            convertRequest.setPdf(new PDF(true));
+        }
+
+        return convertRequest;
+    }
+
+    private void finish(final ConversionJob job, final CommonResponse.Error error) {
+        job.fail(error);
+        failed.incrementAndGet();
+        release(job);
+    }
+
+    private void release(final ConversionJob job) {
+        jobsByKey.remove(job.getKey(), job);
+
+        long retention = settingsManager.getSettingLong("conversion.retention", DEFAULT_RETENTION);
+
+        try {
+            executor.schedule(() -> jobsById.remove(job.getId()), retention, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            jobsById.remove(job.getId());
+        }
+    }
+
+    private static final class ConversionException extends RuntimeException {
+        ConversionException(final Throwable cause) {
+            super(cause);
+        }
+    }
+}
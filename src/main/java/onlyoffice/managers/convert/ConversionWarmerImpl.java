@@ -0,0 +1,258 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.convert;
+
+import com.atlassian.confluence.event.events.content.attachment.AttachmentCreateEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentUpdateEvent;
+import com.atlassian.confluence.languages.LocaleManager;
+import com.atlassian.confluence.pages.Attachment;
+import com.atlassian.confluence.pages.AttachmentManager;
+import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
+import com.atlassian.confluence.user.ConfluenceUser;
+import com.atlassian.event.api.EventListener;
+import com.atlassian.event.api.EventPublisher;
+import com.atlassian.sal.api.transaction.TransactionTemplate;
+import onlyoffice.managers.async.NamedThreadFactory;
+import onlyoffice.managers.cache.ConversionCacheManager;
+import onlyoffice.sdk.manager.document.DocumentManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConversionWarmerImpl implements ConversionWarmer, InitializingBean, DisposableBean {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.convert.ConversionWarmer");
+
+    private static final String DEFAULT_EXTENSIONS = "doc,xls,ppt";
+    private static final int DEFAULT_THREADS = 1;
+    private static final int DEFAULT_QUEUE_SIZE = 100;
+    private static final int DEFAULT_MAX_ACTIVE = 2;
+    private static final long IDLE_WAIT_MILLIS = 1000L;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final EventPublisher eventPublisher;
+    private final AttachmentManager attachmentManager;
+    private final DocumentManager documentManager;
+    private final LocaleManager localeManager;
+    private final ConversionTracker conversionTracker;
+    private final ConversionCacheManager conversionCacheManager;
+    private final SettingsManager settingsManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong warmed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private ThreadPoolExecutor executor;
+
+    public ConversionWarmerImpl(final EventPublisher eventPublisher, final AttachmentManager attachmentManager,
+                                final DocumentManager documentManager, final LocaleManager localeManager,
+                                final ConversionTracker conversionTracker,
+                                final ConversionCacheManager conversionCacheManager,
+                                final SettingsManager settingsManager,
+                                final TransactionTemplate transactionTemplate) {
+        this.eventPublisher = eventPublisher;
+        this.attachmentManager = attachmentManager;
+        this.documentManager = documentManager;
+        this.localeManager = localeManager;
+        this.conversionTracker = conversionTracker;
+        this.conversionCacheManager = conversionCacheManager;
+        this.settingsManager = settingsManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        int threads = Math.max(1, settingsManager.getSettingInteger("conversion.warm.threads", DEFAULT_THREADS));
+        int queueSize = Math.max(1, settingsManager.getSettingInteger("conversion.warm.queueSize",
+                DEFAULT_QUEUE_SIZE));
+
+        executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new NamedThreadFactory("onlyoffice-conversion-warmer", Thread.MIN_PRIORITY));
+        executor.allowCoreThreadTimeOut(true);
+
+        eventPublisher.register(this);
+    }
+
+    @Override
+    public void destroy() {
+        eventPublisher.unregister(this);
+
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @EventListener
+    public void onAttachmentCreateEvent(final AttachmentCreateEvent event) {
+        enqueue(event);
+    }
+
+    @EventListener
+    public void onAttachmentUpdateEvent(final AttachmentUpdateEvent event) {
+        enqueue(event);
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+
+        statistics.put("enabled", isEnabled());
+        statistics.put("pending", executor != null ? executor.getQueue().size() : 0);
+        statistics.put("queued", queued.get());
+        statistics.put("rejected", rejected.get());
+        statistics.put("warmed", warmed.get());
+        statistics.put("skipped", skipped.get());
+        statistics.put("failed", failed.get());
+
+        return statistics;
+    }
+
+    private void enqueue(final AttachmentEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Set<String> extensions = getExtensions();
+
+        for (Attachment attachment : event.getAttachments()) {
+            String extension = documentManager.getExtension(attachment.getFileName());
+
+            if (extension == null || !extensions.contains(extension.toLowerCase())) {
+                continue;
+            }
+
+            ConfluenceUser user = AuthenticatedUserThreadLocal.get();
+
+            if (user == null) {
+                user = attachment.getCreator();
+            }
+
+            if (user == null) {
+                continue;
+            }
+
+            Long attachmentId = attachment.getId();
+            ConfluenceUser owner = user;
+
+            try {
+                executor.execute(() -> warm(attachmentId, owner));
+                queued.incrementAndGet();
+            } catch (RejectedExecutionException e) {
+                rejected.incrementAndGet();
+                log.debug("Conversion warming queue is full, attachment " + attachmentId + " is not warmed");
+            }
+        }
+    }
+
+    private void warm(final Long attachmentId, final ConfluenceUser user) {
+        int maxActive = settingsManager.getSettingInteger("conversion.warm.maxActive", DEFAULT_MAX_ACTIVE);
+
+        try {
+            while (conversionTracker.getActiveCount() >= maxActive) {
+                Thread.sleep(IDLE_WAIT_MILLIS);
+            }
+
+            Target target = transactionTemplate.execute(() -> {
+                Attachment attachment = attachmentManager.getAttachment(attachmentId);
+
+                if (attachment == null || !attachment.isLatestVersion()) {
+                    return null;
+                }
+
+                String outputType = documentManager.getDefaultConvertExtension(attachment.getFileName());
+
+                if (outputType == null) {
+                    return null;
+                }
+
+                Target result = new Target();
+                result.outputType = outputType;
+                result.region = localeManager.getLocale(user).toLanguageTag();
+                result.key = conversionCacheManager.getKey(attachmentId, outputType, result.region, false);
+
+                return result;
+            });
+
+            if (target == null || conversionCacheManager.get(target.key) != null) {
+                skipped.incrementAndGet();
+                return;
+            }
+
+            ConversionJob job = conversionTracker.submit(target.key, attachmentId, target.outputType, target.region,
+                    false, user);
+
+            while (!job.isFinished() && !Thread.currentThread().isInterrupted()) {
+                conversionTracker.await(job, job.getPercent());
+            }
+
+            if (job.isFinished() && job.getError() == null) {
+                warmed.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("Unable to warm conversion of attachment " + attachmentId + ": " + e.getMessage());
+        }
+    }
+
+    private boolean isEnabled() {
+        return settingsManager.getSettingBoolean("conversion.warm.enabled", false);
+    }
+
+    private Set<String> getExtensions() {
+        String extensions = settingsManager.getSetting("conversion.warm.extensions");
+
+        if (extensions == null || extensions.isEmpty()) {
+            extensions = DEFAULT_EXTENSIONS;
+        }
+
+        Set<String> result = new HashSet<>();
+        for (String extension : extensions.toLowerCase().split(",")) {
+            if (!extension.trim().isEmpty()) {
+                result.add(extension.trim());
+            }
+        }
+
+        return result;
+    }
+
+    private static final class Target {
+        private String outputType;
+        private String region;
+        private String key;
+    }
+}
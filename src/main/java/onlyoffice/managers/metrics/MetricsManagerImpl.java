@@ -0,0 +1,109 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class MetricsManagerImpl implements MetricsManager, DisposableBean {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.metrics.MetricsManager");
+
+    private static final String OBJECT_NAME_PREFIX = "onlyoffice.confluence:type=Metrics,stage=";
+
+    private final ConcurrentMap<String, StageMetrics> stages = new ConcurrentHashMap<>();
+
+    @Override
+    public void destroy() {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        for (String stage : stages.keySet()) {
+            try {
+                ObjectName objectName = getObjectName(stage);
+
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+            } catch (Exception e) {
+                log.warn("Unable to unregister metrics for stage " + stage + ": " + e.getMessage());
+            }
+        }
+    }
+
+    public StageTimer startTimer(final String stage) {
+        return new StageTimer(this, stage);
+    }
+
+    public void record(final String stage, final long durationNanos, final long bytes, final boolean success) {
+        getStageMetrics(stage).record(durationNanos, bytes, success);
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new TreeMap<>();
+
+        for (Map.Entry<String, StageMetrics> entry : stages.entrySet()) {
+            statistics.put(entry.getKey(), entry.getValue().getStatistics());
+        }
+
+        return statistics;
+    }
+
+    private StageMetrics getStageMetrics(final String stage) {
+        StageMetrics stageMetrics = stages.get(stage);
+
+        if (stageMetrics == null) {
+            StageMetrics newStageMetrics = new StageMetrics();
+            stageMetrics = stages.putIfAbsent(stage, newStageMetrics);
+
+            if (stageMetrics == null) {
+                stageMetrics = newStageMetrics;
+                register(stage, stageMetrics);
+            }
+        }
+
+        return stageMetrics;
+    }
+
+    private void register(final String stage, final StageMetrics stageMetrics) {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = getObjectName(stage);
+
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+
+            mBeanServer.registerMBean(stageMetrics, objectName);
+        } catch (Exception e) {
+            log.warn("Unable to register metrics for stage " + stage + ": " + e.getMessage());
+        }
+    }
+
+    private ObjectName getObjectName(final String stage) throws Exception {
+        return new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(stage));
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class StageMetrics implements StageMetricsMXBean {
+    private static final long[] BUCKET_BOUNDS_MILLIS = {
+        10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000, 120000, 300000
+    };
+    private static final double NANOS_IN_MILLISECOND = 1000000.0;
+    private static final double P50 = 0.5;
+    private static final double P95 = 0.95;
+    private static final double P99 = 0.99;
+
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MILLIS.length + 1);
+
+    public void record(final long durationNanos, final long transferredBytes, final boolean success) {
+        count.incrementAndGet();
+        totalNanos.addAndGet(durationNanos);
+        bytes.addAndGet(transferredBytes);
+
+        if (!success) {
+            failures.incrementAndGet();
+        }
+
+        long max;
+        while ((max = maxNanos.get()) < durationNanos && !maxNanos.compareAndSet(max, durationNanos)) {
+            continue;
+        }
+
+        buckets.incrementAndGet(getBucket(TimeUnit.NANOSECONDS.toMillis(durationNanos)));
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    public double getMeanMillis() {
+        long currentCount = count.get();
+
+        return currentCount == 0 ? 0 : totalNanos.get() / NANOS_IN_MILLISECOND / currentCount;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / NANOS_IN_MILLISECOND;
+    }
+
+    public double getP50Millis() {
+        return getPercentile(P50);
+    }
+
+    public double getP95Millis() {
+        return getPercentile(P95);
+    }
+
+    public double getP99Millis() {
+        return getPercentile(P99);
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+
+        statistics.put("count", getCount());
+        statistics.put("failures", getFailures());
+        statistics.put("bytes", getBytes());
+        statistics.put("meanMillis", getMeanMillis());
+        statistics.put("maxMillis", getMaxMillis());
+        statistics.put("p50Millis", getP50Millis());
+        statistics.put("p95Millis", getP95Millis());
+        statistics.put("p99Millis", getP99Millis());
+
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length(); i++) {
+            String bucket = i < BUCKET_BOUNDS_MILLIS.length ? "le" + BUCKET_BOUNDS_MILLIS[i] : "inf";
+            histogram.put(bucket, buckets.get(i));
+        }
+        statistics.put("histogram", histogram);
+
+        return statistics;
+    }
+
+    private double getPercentile(final double percentile) {
+        long total = 0;
+        long[] snapshot = new long[buckets.length()];
+
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(total * percentile);
+        long seen = 0;
+
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+
+            if (seen >= rank) {
+                return i < BUCKET_BOUNDS_MILLIS.length ? BUCKET_BOUNDS_MILLIS[i] : getMaxMillis();
+            }
+        }
+
+        return getMaxMillis();
+    }
+
+    private int getBucket(final long millis) {
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            if (millis <= BUCKET_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+
+        return BUCKET_BOUNDS_MILLIS.length;
+    }
+}
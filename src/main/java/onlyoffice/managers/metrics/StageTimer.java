@@ -0,0 +1,58 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.metrics;
+
+public class StageTimer implements AutoCloseable {
+    private final MetricsManager metricsManager;
+    private final String stage;
+    private final long start = System.nanoTime();
+
+    private long bytes = 0;
+    private boolean success = false;
+    private long elapsed = -1;
+
+    public StageTimer(final MetricsManager metricsManager, final String stage) {
+        this.metricsManager = metricsManager;
+        this.stage = stage;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public void setBytes(final long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void success() {
+        this.success = true;
+    }
+
+    public long getElapsedNanos() {
+        return elapsed >= 0 ? elapsed : System.nanoTime() - start;
+    }
+
+    @Override
+    public void close() {
+        if (elapsed < 0) {
+            elapsed = System.nanoTime() - start;
+            metricsManager.record(stage, elapsed, bytes, success);
+        }
+    }
+}
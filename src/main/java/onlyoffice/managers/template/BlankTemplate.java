@@ -0,0 +1,44 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.template;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+public final class BlankTemplate {
+    private final byte[] data;
+    private final boolean custom;
+
+    public BlankTemplate(final byte[] data, final boolean custom) {
+        this.data = data;
+        this.custom = custom;
+    }
+
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(data);
+    }
+
+    public long getSize() {
+        return data.length;
+    }
+
+    public boolean isCustom() {
+        return custom;
+    }
+}
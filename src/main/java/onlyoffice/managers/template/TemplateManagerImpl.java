@@ -0,0 +1,308 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.template;
+
+import com.atlassian.confluence.event.events.content.attachment.AttachmentCreateEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentRemoveEvent;
+import com.atlassian.confluence.event.events.content.attachment.AttachmentUpdateEvent;
+import com.atlassian.confluence.languages.LocaleManager;
+import com.atlassian.confluence.pages.Attachment;
+import com.atlassian.confluence.pages.AttachmentManager;
+import com.atlassian.confluence.pages.Page;
+import com.atlassian.confluence.spaces.Space;
+import com.atlassian.confluence.spaces.SpaceManager;
+import com.atlassian.event.api.EventListener;
+import com.atlassian.event.api.EventPublisher;
+import com.atlassian.spring.container.ContainerManager;
+import onlyoffice.sdk.manager.document.DocumentManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.apache.commons.io.IOUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TemplateManagerImpl implements TemplateManager, InitializingBean, DisposableBean {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.template.TemplateManager");
+
+    private static final List<String> EXTENSIONS = Arrays.asList("docx", "xlsx", "pptx", "pdf");
+    private static final String TEMPLATE_NAME = "new";
+    private static final long DEFAULT_LOOKUP_TTL = 60L;
+
+    private final EventPublisher eventPublisher;
+    private final AttachmentManager attachmentManager;
+    private final DocumentManager documentManager;
+    private final LocaleManager localeManager;
+    private final SettingsManager settingsManager;
+
+    private final Map<String, BlankTemplate> defaultTemplates = new ConcurrentHashMap<>();
+    private final Map<String, BlankTemplate> customTemplates = new ConcurrentHashMap<>();
+    private final Map<String, ResolvedTemplate> resolvedTemplates = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile String revision;
+
+    public TemplateManagerImpl(final EventPublisher eventPublisher, final AttachmentManager attachmentManager,
+                               final DocumentManager documentManager, final LocaleManager localeManager,
+                               final SettingsManager settingsManager) {
+        this.eventPublisher = eventPublisher;
+        this.attachmentManager = attachmentManager;
+        this.documentManager = documentManager;
+        this.localeManager = localeManager;
+        this.settingsManager = settingsManager;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        eventPublisher.register(this);
+
+        Locale locale = localeManager.getSiteDefaultLocale();
+
+        for (String extension : EXTENSIONS) {
+            try {
+                getDefaultTemplate(extension, locale);
+            } catch (Exception e) {
+                log.warn("Unable to preload blank template " + extension + " (" + locale + "): " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        eventPublisher.unregister(this);
+    }
+
+    @EventListener
+    public void onAttachmentCreateEvent(final AttachmentCreateEvent event) {
+        onTemplateChanged(event);
+    }
+
+    @EventListener
+    public void onAttachmentUpdateEvent(final AttachmentUpdateEvent event) {
+        onTemplateChanged(event);
+    }
+
+    @EventListener
+    public void onAttachmentRemoveEvent(final AttachmentRemoveEvent event) {
+        onTemplateChanged(event);
+    }
+
+    public BlankTemplate getTemplate(final String extension, final Locale locale) throws IOException {
+        String revision = settingsManager.getSettingsRevision();
+
+        if (!Objects.equals(this.revision, revision)) {
+            invalidate();
+            this.revision = revision;
+        }
+
+        BlankTemplate template = getCustomTemplate(extension, locale);
+
+        if (template == null) {
+            template = getDefaultTemplate(extension, locale);
+        }
+
+        return template;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        customTemplates.clear();
+        resolvedTemplates.clear();
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+
+        statistics.put("defaultTemplates", defaultTemplates.size());
+        statistics.put("customTemplates", customTemplates.size());
+        statistics.put("hits", hits.get());
+        statistics.put("misses", misses.get());
+
+        return statistics;
+    }
+
+    private BlankTemplate getDefaultTemplate(final String extension, final Locale locale) throws IOException {
+        String key = getKey(extension, locale);
+        BlankTemplate template = defaultTemplates.get(key);
+
+        if (template != null) {
+            hits.incrementAndGet();
+            return template;
+        }
+
+        misses.incrementAndGet();
+
+        try (InputStream inputStream = documentManager.getNewBlankFile(extension, locale)) {
+            if (inputStream == null) {
+                throw new IOException("Blank template " + extension + " is not available");
+            }
+
+            template = new BlankTemplate(IOUtils.toByteArray(inputStream), false);
+        }
+
+        BlankTemplate previous = defaultTemplates.putIfAbsent(key, template);
+
+        return previous != null ? previous : template;
+    }
+
+    private BlankTemplate getCustomTemplate(final String extension, final Locale locale) {
+        String key = getKey(extension, locale);
+        ResolvedTemplate resolved = resolvedTemplates.get(key);
+
+        if (resolved != null && resolved.expires > System.currentTimeMillis()) {
+            if (resolved.template != null) {
+                hits.incrementAndGet();
+            }
+
+            return resolved.template;
+        }
+
+        long resolvedGeneration = generation.get();
+        BlankTemplate template = resolveCustomTemplate(extension, locale);
+
+        if (resolvedGeneration == generation.get()) {
+            long lookupTtl = settingsManager.getSettingLong("templates.lookupTtl", DEFAULT_LOOKUP_TTL);
+            resolvedTemplates.put(key, new ResolvedTemplate(template,
+                    System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(lookupTtl)));
+        }
+
+        return template;
+    }
+
+    private BlankTemplate resolveCustomTemplate(final String extension, final Locale locale) {
+        Page homePage = getTemplatesPage();
+
+        if (homePage != null) {
+            for (String fileName : getCandidateNames(extension, locale)) {
+                Attachment attachment = attachmentManager.getAttachment(homePage, fileName);
+
+                if (attachment == null) {
+                    continue;
+                }
+
+                String versionKey = attachment.getId() + "_" + attachment.getVersion();
+                BlankTemplate template = customTemplates.get(versionKey);
+
+                if (template != null) {
+                    hits.incrementAndGet();
+                    return template;
+                }
+
+                try (InputStream inputStream = attachmentManager.getAttachmentData(attachment)) {
+                    misses.incrementAndGet();
+                    template = new BlankTemplate(IOUtils.toByteArray(inputStream), true);
+
+                    customTemplates.keySet().removeIf(cached -> cached.startsWith(attachment.getId() + "_"));
+                    customTemplates.put(versionKey, template);
+
+                    return template;
+                } catch (Exception e) {
+                    log.warn("Unable to read custom template " + fileName + ": " + e.getMessage());
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private Page getTemplatesPage() {
+        String spaceKey = getTemplatesSpaceKey();
+
+        if (spaceKey == null) {
+            return null;
+        }
+
+        SpaceManager spaceManager = (SpaceManager) ContainerManager.getComponent("spaceManager");
+        Space space = spaceManager.getSpace(spaceKey);
+
+        return space != null ? space.getHomePage() : null;
+    }
+
+    private List<String> getCandidateNames(final String extension, final Locale locale) {
+        List<String> names = new ArrayList<>();
+
+        if (locale != null) {
+            names.add(TEMPLATE_NAME + "." + locale.toLanguageTag() + "." + extension);
+
+            if (!locale.getCountry().isEmpty()) {
+                names.add(TEMPLATE_NAME + "." + locale.getLanguage() + "." + extension);
+            }
+        }
+
+        names.add(TEMPLATE_NAME + "." + extension);
+
+        return names;
+    }
+
+    private void onTemplateChanged(final AttachmentEvent event) {
+        String spaceKey = getTemplatesSpaceKey();
+
+        if (spaceKey == null) {
+            return;
+        }
+
+        for (Attachment attachment : event.getAttachments()) {
+            Space space = attachment.getSpace();
+
+            if (space != null && spaceKey.equals(space.getKey())
+                    && attachment.getFileName() != null && attachment.getFileName().startsWith(TEMPLATE_NAME + ".")) {
+                log.info("Custom template " + attachment.getFileName() + " changed, clearing template cache");
+                invalidate();
+                return;
+            }
+        }
+    }
+
+    private String getTemplatesSpaceKey() {
+        String spaceKey = settingsManager.getSetting("templates.spaceKey");
+
+        return spaceKey == null || spaceKey.trim().isEmpty() ? null : spaceKey.trim();
+    }
+
+    private String getKey(final String extension, final Locale locale) {
+        return extension + "_" + (locale != null ? locale.toLanguageTag() : "");
+    }
+
+    private static final class ResolvedTemplate {
+        private final BlankTemplate template;
+        private final long expires;
+
+        private ResolvedTemplate(final BlankTemplate template, final long expires) {
+            this.template = template;
+            this.expires = expires;
+        }
+    }
+}
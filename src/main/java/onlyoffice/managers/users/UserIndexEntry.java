@@ -0,0 +1,56 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.users;
+
+public class UserIndexEntry {
+    private final String key;
+    private final String username;
+    private final String fullName;
+    private final String email;
+    private final String avatarVersion;
+
+    public UserIndexEntry(final String key, final String username, final String fullName, final String email,
+                          final String avatarVersion) {
+        this.key = key;
+        this.username = username;
+        this.fullName = fullName;
+        this.email = email;
+        this.avatarVersion = avatarVersion;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getAvatarVersion() {
+        return avatarVersion;
+    }
+}
@@ -0,0 +1,374 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.users;
+
+import com.atlassian.confluence.event.events.user.UserDeactivateEvent;
+import com.atlassian.confluence.event.events.user.UserReactivateEvent;
+import com.atlassian.confluence.user.ConfluenceUser;
+import com.atlassian.confluence.user.UserAccessor;
+import com.atlassian.confluence.user.actions.ProfilePictureInfo;
+import com.atlassian.crowd.event.user.UserCreatedEvent;
+import com.atlassian.crowd.event.user.UserDeletedEvent;
+import com.atlassian.crowd.event.user.UserEditedEvent;
+import com.atlassian.crowd.event.user.UserRenamedEvent;
+import com.atlassian.event.api.EventListener;
+import com.atlassian.event.api.EventPublisher;
+import com.atlassian.sal.api.transaction.TransactionTemplate;
+import com.atlassian.spring.container.ContainerManager;
+import onlyoffice.managers.async.NamedThreadFactory;
+import onlyoffice.managers.cache.AvatarCacheManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UserIndexManagerImpl implements UserIndexManager, InitializingBean, DisposableBean {
+    private final Logger log = LogManager.getLogger("onlyoffice.managers.users.UserIndexManager");
+
+    private static final char SEPARATOR = '\u0000';
+    private static final long INITIAL_DELAY_SECONDS = 10L;
+    private static final long DEFAULT_REFRESH_INTERVAL = 3600L;
+    private static final int MAX_COUNTED_MATCHES = 1000;
+
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final SettingsManager settingsManager;
+    private final AvatarCacheManager avatarCacheManager;
+
+    private final ConcurrentSkipListMap<String, String> terms = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, String> names = new ConcurrentSkipListMap<>();
+    private final Map<String, UserIndexEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, String> keysByUsername = new ConcurrentHashMap<>();
+
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+
+    private volatile long lastRebuild;
+    private ScheduledThreadPoolExecutor executor;
+
+    public UserIndexManagerImpl(final EventPublisher eventPublisher, final TransactionTemplate transactionTemplate,
+                                final SettingsManager settingsManager,
+                                final AvatarCacheManager avatarCacheManager) {
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.settingsManager = settingsManager;
+        this.avatarCacheManager = avatarCacheManager;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        executor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("onlyoffice-user-index",
+                Thread.MIN_PRIORITY));
+
+        long refreshInterval = settingsManager.getSettingLong("users.index.refreshInterval",
+                DEFAULT_REFRESH_INTERVAL);
+
+        if (refreshInterval > 0) {
+            executor.scheduleWithFixedDelay(this::rebuild, INITIAL_DELAY_SECONDS, refreshInterval,
+                    TimeUnit.SECONDS);
+        } else {
+            executor.schedule(this::rebuild, INITIAL_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+
+        eventPublisher.register(this);
+    }
+
+    @Override
+    public void destroy() {
+        eventPublisher.unregister(this);
+
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @EventListener
+    public void onUserCreatedEvent(final UserCreatedEvent event) {
+        update(event.getUser().getName());
+    }
+
+    @EventListener
+    public void onUserEditedEvent(final UserEditedEvent event) {
+        update(event.getUser().getName());
+    }
+
+    @EventListener
+    public void onUserRenamedEvent(final UserRenamedEvent event) {
+        keysByUsername.remove(normalize(event.getOldUsername()));
+        update(event.getUser().getName());
+    }
+
+    @EventListener
+    public void onUserDeletedEvent(final UserDeletedEvent event) {
+        String key = keysByUsername.get(normalize(event.getUsername()));
+
+        if (key != null) {
+            remove(key);
+            updates.incrementAndGet();
+        }
+    }
+
+    @EventListener
+    public void onUserDeactivateEvent(final UserDeactivateEvent event) {
+        if (event.getUser() != null) {
+            update(event.getUser().getName());
+        }
+    }
+
+    @EventListener
+    public void onUserReactivateEvent(final UserReactivateEvent event) {
+        if (event.getUser() != null) {
+            update(event.getUser().getName());
+        }
+    }
+
+    public UserSearchResult search(final String query, final int offset, final int limit) {
+        searches.incrementAndGet();
+
+        String prefix = normalize(query);
+        int from = Math.max(0, offset);
+
+        if (prefix.isEmpty()) {
+            return new UserSearchResult(page(names.values(), from, limit), entries.size());
+        }
+
+        Set<String> matched = new HashSet<>();
+        List<UserIndexEntry> users = new ArrayList<>();
+        int maxTotal = Math.max(MAX_COUNTED_MATCHES, from + limit);
+
+        for (String key : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            if (!matched.add(key)) {
+                continue;
+            }
+
+            if (matched.size() > from && users.size() < limit) {
+                UserIndexEntry entry = entries.get(key);
+
+                if (entry != null) {
+                    users.add(entry);
+                }
+            }
+
+            if (matched.size() >= maxTotal) {
+                break;
+            }
+        }
+
+        return new UserSearchResult(users, matched.size());
+    }
+
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+
+            int count = transactionTemplate.execute(() -> {
+                UserAccessor userAccessor = getUserAccessor();
+                Set<String> indexed = new HashSet<>();
+
+                for (String username : userAccessor.getUserNamesWithConfluenceAccess()) {
+                    ConfluenceUser user = userAccessor.getUserByName(username);
+
+                    if (user != null && !userAccessor.isDeactivated(user)) {
+                        index(userAccessor, user);
+                        indexed.add(user.getKey().getStringValue());
+                    }
+                }
+
+                for (String key : new ArrayList<>(entries.keySet())) {
+                    if (!indexed.contains(key)) {
+                        remove(key);
+                    }
+                }
+
+                return indexed.size();
+            });
+
+            lastRebuild = System.currentTimeMillis();
+            rebuilds.incrementAndGet();
+
+            log.info("User index rebuilt: " + count + " users in " + (lastRebuild - start) + " ms");
+        } catch (Exception e) {
+            log.warn("Unable to rebuild user index: " + e.getMessage(), e);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+
+        statistics.put("users", entries.size());
+        statistics.put("terms", terms.size());
+        statistics.put("searches", searches.get());
+        statistics.put("updates", updates.get());
+        statistics.put("rebuilds", rebuilds.get());
+        statistics.put("lastRebuild", lastRebuild);
+
+        return statistics;
+    }
+
+    private List<UserIndexEntry> page(final Iterable<String> keys, final int offset, final int limit) {
+        List<UserIndexEntry> users = new ArrayList<>();
+
+        int index = 0;
+        for (String key : keys) {
+            if (users.size() >= limit) {
+                break;
+            }
+
+            if (index++ < offset) {
+                continue;
+            }
+
+            UserIndexEntry entry = entries.get(key);
+
+            if (entry != null) {
+                users.add(entry);
+            }
+        }
+
+        return users;
+    }
+
+    private void update(final String username) {
+        try {
+            transactionTemplate.execute(() -> {
+                UserAccessor userAccessor = getUserAccessor();
+                ConfluenceUser user = userAccessor.getUserByName(username);
+
+                if (user == null) {
+                    String key = keysByUsername.get(normalize(username));
+
+                    if (key != null) {
+                        remove(key);
+                    }
+                } else if (userAccessor.isDeactivated(user)) {
+                    remove(user.getKey().getStringValue());
+                } else {
+                    index(userAccessor, user);
+                }
+
+                return null;
+            });
+
+            updates.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("Unable to update user index for " + username + ": " + e.getMessage());
+        }
+    }
+
+    private synchronized void index(final UserAccessor userAccessor, final ConfluenceUser user) {
+        String key = user.getKey().getStringValue();
+        String fullName = user.getFullName() != null ? user.getFullName() : user.getName();
+        String email = user.getEmail();
+        String avatarVersion = getAvatarVersion(userAccessor, user);
+
+        UserIndexEntry previous = entries.get(key);
+
+        if (previous != null
+                && previous.getUsername().equals(user.getName())
+                && previous.getFullName().equals(fullName)
+                && Objects.equals(previous.getEmail(), email)
+                && Objects.equals(previous.getAvatarVersion(), avatarVersion)) {
+            return;
+        }
+
+        put(new UserIndexEntry(key, user.getName(), fullName, email, avatarVersion));
+    }
+
+    synchronized void put(final UserIndexEntry entry) {
+        String key = entry.getKey();
+
+        remove(key);
+
+        for (String term : getTerms(entry)) {
+            terms.put(term + SEPARATOR + key, key);
+        }
+
+        names.put(normalize(entry.getFullName()) + SEPARATOR + key, key);
+        entries.put(key, entry);
+        keysByUsername.put(normalize(entry.getUsername()), key);
+    }
+
+    private synchronized void remove(final String key) {
+        UserIndexEntry entry = entries.remove(key);
+
+        if (entry == null) {
+            return;
+        }
+
+        for (String term : getTerms(entry)) {
+            terms.remove(term + SEPARATOR + key);
+        }
+
+        names.remove(normalize(entry.getFullName()) + SEPARATOR + key);
+        keysByUsername.remove(normalize(entry.getUsername()), key);
+    }
+
+    private String getAvatarVersion(final UserAccessor userAccessor, final ConfluenceUser user) {
+        ProfilePictureInfo profilePictureInfo = userAccessor.getUserProfilePicture(user);
+
+        if (profilePictureInfo == null || profilePictureInfo.isDefault()) {
+            return null;
+        }
+
+        return avatarCacheManager.getVersion(profilePictureInfo);
+    }
+
+    private Set<String> getTerms(final UserIndexEntry entry) {
+        Set<String> result = new LinkedHashSet<>();
+        String fullName = normalize(entry.getFullName());
+
+        result.add(fullName);
+        result.add(normalize(entry.getUsername()));
+
+        for (String word : fullName.split("[\\s\\p{Punct}]+")) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+
+        result.remove("");
+
+        return result;
+    }
+
+    private String normalize(final String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private UserAccessor getUserAccessor() {
+        return (UserAccessor) ContainerManager.getComponent("userAccessor");
+    }
+}
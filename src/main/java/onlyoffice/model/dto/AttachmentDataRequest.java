@@ -0,0 +1,43 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.model.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AttachmentDataRequest {
+    private String command;
+    private List<Long> attachments = new ArrayList<>();
+
+    public String getCommand() {
+        return command;
+    }
+
+    public void setCommand(final String command) {
+        this.command = command;
+    }
+
+    public List<Long> getAttachments() {
+        return attachments;
+    }
+
+    public void setAttachments(final List<Long> attachments) {
+        this.attachments = attachments;
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.model.dto;
+
+import com.onlyoffice.model.documenteditor.config.document.ReferenceData;
+
+public class ReferenceDataRequest {
+    private ReferenceData referenceData;
+    private String path;
+
+    public ReferenceData getReferenceData() {
+        return referenceData;
+    }
+
+    public void setReferenceData(final ReferenceData referenceData) {
+        this.referenceData = referenceData;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(final String path) {
+        this.path = path;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.model.dto;
+
+public class UsersSearchRequest {
+    private String search;
+    private Integer from;
+    private Integer count;
+
+    public String getSearch() {
+        return search;
+    }
+
+    public void setSearch(final String search) {
+        this.search = search;
+    }
+
+    public Integer getFrom() {
+        return from;
+    }
+
+    public void setFrom(final Integer from) {
+        this.from = from;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public void setCount(final Integer count) {
+        this.count = count;
+    }
+}
@@ -18,7 +18,16 @@
 
 package onlyoffice.sdk.manager.document;
 
+import com.atlassian.confluence.pages.Attachment;
+import com.onlyoffice.model.common.Format;
+
+import java.util.List;
+
 public interface DocumentManager extends com.onlyoffice.manager.document.DocumentManager {
     String getCorrectNewFileName(String fileName, String fileExt, Long pageID);
     String getMimeType(String name);
+    String getDocumentKey(Attachment attachment, boolean embedded);
+    Format getFormat(String extension);
+    List<String> getViewableExtensions();
+    FormatRegistry getFormatRegistry();
 }
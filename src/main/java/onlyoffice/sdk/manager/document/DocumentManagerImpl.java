@@ -24,7 +24,9 @@ import com.atlassian.confluence.pages.Attachment;
 import com.atlassian.confluence.pages.AttachmentManager;
 import com.atlassian.spring.container.ContainerManager;
 import com.onlyoffice.manager.document.DefaultDocumentManager;
-import com.onlyoffice.manager.settings.SettingsManager;
+import com.onlyoffice.model.common.Format;
+import com.onlyoffice.model.documenteditor.config.document.DocumentType;
+import onlyoffice.sdk.manager.settings.SettingsManager;
 import onlyoffice.utils.attachment.AttachmentUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,27 +35,34 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 public class DocumentManagerImpl extends DefaultDocumentManager implements DocumentManager {
     private final Logger log = LogManager.getLogger("onlyoffice.sdk.manager.document.DocumentManagerImpl");
     private static final int MAX_KEY_LENGTH = 20;
 
+    private final SettingsManager settingsManager;
     private final AttachmentUtil attachmentUtil;
-    private final AttachmentManager attachmentManager;
 
-    public DocumentManagerImpl(final SettingsManager settingsManager, final AttachmentUtil attachmentUtil,
-                               final AttachmentManager attachmentManager) {
+    private final ThreadLocal<Boolean> building = ThreadLocal.withInitial(() -> false);
+    private volatile FormatRegistry formatRegistry;
+
+    public DocumentManagerImpl(final SettingsManager settingsManager, final AttachmentUtil attachmentUtil) {
         super(settingsManager);
+        this.settingsManager = settingsManager;
         this.attachmentUtil = attachmentUtil;
-        this.attachmentManager = attachmentManager;
     }
 
     @Override
     public String getDocumentKey(final String fileId, final boolean embedded) {
         Long attachmentId = Long.parseLong(fileId);
 
-        String hashCode = attachmentUtil.getHashCode(attachmentId);
+        return getDocumentKey(attachmentUtil.getAttachment(attachmentId), embedded);
+    }
+
+    public String getDocumentKey(final Attachment attachment, final boolean embedded) {
+        String hashCode = attachmentUtil.getHashCode(attachment);
         String key = generateRevisionId(hashCode);
 
         return embedded ? key + "_embedded" : key;
@@ -63,7 +72,7 @@ public class DocumentManagerImpl extends DefaultDocumentManager implements Docum
     public String getDocumentName(final String fileId) {
         Long attachmentId = Long.parseLong(fileId);
 
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = attachmentUtil.getAttachment(attachmentId);
 
         if (attachment != null) {
             return attachment.getFileName();
@@ -99,8 +108,120 @@ public class DocumentManagerImpl extends DefaultDocumentManager implements Docum
         return name;
     }
 
+    @Override
+    public DocumentType getDocumentType(final String fileName) {
+        FormatRegistry.Entry entry = getFormatEntry(fileName);
+
+        return entry != null ? entry.getDocumentType() : super.getDocumentType(fileName);
+    }
+
+    @Override
+    public boolean isEditable(final String fileName) {
+        FormatRegistry.Entry entry = getFormatEntry(fileName);
+
+        return entry != null ? entry.isEditable() : super.isEditable(fileName);
+    }
+
+    @Override
+    public boolean isViewable(final String fileName) {
+        FormatRegistry.Entry entry = getFormatEntry(fileName);
+
+        return entry != null ? entry.isViewable() : super.isViewable(fileName);
+    }
+
+    @Override
+    public boolean isFillable(final String fileName) {
+        FormatRegistry.Entry entry = getFormatEntry(fileName);
+
+        return entry != null ? entry.isFillable() : super.isFillable(fileName);
+    }
+
+    @Override
+    public String getDefaultConvertExtension(final String fileName) {
+        FormatRegistry.Entry entry = getFormatEntry(fileName);
+
+        return entry != null ? entry.getDefaultConvertExtension() : super.getDefaultConvertExtension(fileName);
+    }
+
+    @Override
+    public List<String> getConvertExtensionList(final String fileName) {
+        FormatRegistry.Entry entry = getFormatEntry(fileName);
+
+        return entry != null ? entry.getConvertExtensions() : super.getConvertExtensionList(fileName);
+    }
+
+    @Override
+    public Format getFormat(final String extension) {
+        FormatRegistry.Entry entry = getFormatRegistry().get(extension);
+
+        return entry != null ? entry.getFormat() : null;
+    }
+
+    @Override
+    public List<String> getViewableExtensions() {
+        return getFormatRegistry().getViewableExtensions();
+    }
+
+    @Override
+    public FormatRegistry getFormatRegistry() {
+        String fingerprint = settingsManager.getSettingsRevision();
+
+        FormatRegistry registry = formatRegistry;
+
+        if (registry == null || !registry.getFingerprint().equals(fingerprint)) {
+            registry = buildFormatRegistry(fingerprint);
+            formatRegistry = registry;
+        }
+
+        return registry;
+    }
+
     @Override
     public String getMimeType(final String name) {
+        FormatRegistry.Entry entry = getFormatEntry(name);
+
+        return entry != null ? entry.getMimeType() : probeMimeType(name);
+    }
+
+    private FormatRegistry.Entry getFormatEntry(final String fileName) {
+        if (fileName == null || building.get()) {
+            return null;
+        }
+
+        return getFormatRegistry().get(getExtension(fileName));
+    }
+
+    private FormatRegistry buildFormatRegistry(final String fingerprint) {
+        List<FormatRegistry.Entry> entries = new ArrayList<>();
+
+        building.set(true);
+        try {
+            for (Format format : super.getFormats()) {
+                String extension = format.getName();
+                String fileName = "file." + extension;
+
+                entries.add(new FormatRegistry.Entry(
+                        extension,
+                        format,
+                        super.getDocumentType(fileName),
+                        super.isViewable(fileName),
+                        super.isEditable(fileName),
+                        super.isFillable(fileName),
+                        super.getDefaultConvertExtension(fileName),
+                        super.getConvertExtensionList(fileName),
+                        probeMimeType(fileName)
+                ));
+            }
+        } finally {
+            building.remove();
+        }
+
+        log.info("Format registry built for " + entries.size() + " formats");
+
+        return new FormatRegistry(fingerprint, entries);
+    }
+
+    private String probeMimeType(final String name) {
         Path path = new File(name).toPath();
         String mimeType = null;
         try {
@@ -0,0 +1,126 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.sdk.manager.document;
+
+import com.onlyoffice.model.common.Format;
+import com.onlyoffice.model.documenteditor.config.document.DocumentType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class FormatRegistry {
+    private final String fingerprint;
+    private final Map<String, Entry> entries;
+    private final List<String> viewableExtensions;
+
+    FormatRegistry(final String fingerprint, final List<Entry> entries) {
+        Map<String, Entry> index = new HashMap<>();
+        List<String> viewable = new ArrayList<>();
+
+        for (Entry entry : entries) {
+            index.put(entry.getExtension(), entry);
+
+            if (entry.getFormat().getActions() != null && entry.getFormat().getActions().contains("view")) {
+                viewable.add(entry.getExtension());
+            }
+        }
+
+        this.fingerprint = fingerprint;
+        this.entries = Collections.unmodifiableMap(index);
+        this.viewableExtensions = Collections.unmodifiableList(viewable);
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Entry get(final String extension) {
+        return extension == null ? null : entries.get(extension);
+    }
+
+    public List<String> getViewableExtensions() {
+        return viewableExtensions;
+    }
+
+    public static final class Entry {
+        private final String extension;
+        private final Format format;
+        private final DocumentType documentType;
+        private final boolean viewable;
+        private final boolean editable;
+        private final boolean fillable;
+        private final String defaultConvertExtension;
+        private final List<String> convertExtensions;
+        private final String mimeType;
+
+        Entry(final String extension, final Format format, final DocumentType documentType, final boolean viewable,
+              final boolean editable, final boolean fillable, final String defaultConvertExtension,
+              final List<String> convertExtensions, final String mimeType) {
+            this.extension = extension;
+            this.format = format;
+            this.documentType = documentType;
+            this.viewable = viewable;
+            this.editable = editable;
+            this.fillable = fillable;
+            this.defaultConvertExtension = defaultConvertExtension;
+            this.convertExtensions = convertExtensions == null ? null
+                    : Collections.unmodifiableList(new ArrayList<>(convertExtensions));
+            this.mimeType = mimeType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public Format getFormat() {
+            return format;
+        }
+
+        public DocumentType getDocumentType() {
+            return documentType;
+        }
+
+        public boolean isViewable() {
+            return viewable;
+        }
+
+        public boolean isEditable() {
+            return editable;
+        }
+
+        public boolean isFillable() {
+            return fillable;
+        }
+
+        public String getDefaultConvertExtension() {
+            return defaultConvertExtension;
+        }
+
+        public List<String> getConvertExtensions() {
+            return convertExtensions;
+        }
+
+        public String getMimeType() {
+            return mimeType;
+        }
+    }
+}
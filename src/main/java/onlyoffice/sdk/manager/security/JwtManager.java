@@ -18,9 +18,11 @@
 
 package onlyoffice.sdk.manager.security;
 
+import java.util.List;
 import java.util.Map;
 
 public interface JwtManager extends com.onlyoffice.manager.security.JwtManager {
+    List<String> createTokens(List<?> payloads) throws Exception;
     String createInternalToken(Map<String, ?> payloadMap);
     String verifyInternalToken(String token);
     String createHash(String str);
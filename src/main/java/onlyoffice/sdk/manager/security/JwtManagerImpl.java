@@ -23,27 +23,84 @@ import com.atlassian.sal.api.pluginsettings.PluginSettingsFactory;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.onlyoffice.manager.security.DefaultJwtManager;
+import onlyoffice.managers.async.NamedThreadFactory;
+import onlyoffice.sdk.manager.settings.SettingsManager;
 import org.apache.hc.client5.http.utils.Hex;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
-public class JwtManagerImpl extends DefaultJwtManager implements JwtManager {
+public class JwtManagerImpl extends DefaultJwtManager implements JwtManager, DisposableBean {
     private final Logger log = LogManager.getLogger("onlyoffice.sdk.manager.security.JwtManagerImpl");
     private static final int PLUGIN_SECRET_LENGTH = 32;
     private static final String FILES_CONFLUENCE_SECRET = "Vskoproizvolny Salt par Chivreski";
+    private static final int MAX_DEFAULT_SIGNING_THREADS = 4;
+    private static final int SIGNING_QUEUE_SIZE = 100;
+    private static final int PARALLEL_SIGNING_THRESHOLD = 4;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
     private final PluginSettings pluginSettings;
+    private final SettingsManager settingsManager;
+
+    private volatile ThreadPoolExecutor signingExecutor;
 
     public JwtManagerImpl(final PluginSettingsFactory pluginSettingsFactory,
-                          final com.onlyoffice.manager.settings.SettingsManager settingsManagerSdk) {
-        super(settingsManagerSdk);
+                          final SettingsManager settingsManager) {
+        super(settingsManager);
         this.pluginSettings = pluginSettingsFactory.createGlobalSettings();
+        this.settingsManager = settingsManager;
+    }
+
+    @Override
+    public void destroy() {
+        if (signingExecutor != null) {
+            signingExecutor.shutdown();
+        }
     }
 
+    public List<String> createTokens(final List<?> payloads) throws Exception {
+        List<String> tokens = new ArrayList<>(payloads.size());
+
+        if (payloads.size() < PARALLEL_SIGNING_THRESHOLD) {
+            for (Object payload : payloads) {
+                tokens.add(createToken(payload));
+            }
+
+            return tokens;
+        }
+
+        ThreadPoolExecutor executor = getSigningExecutor();
+        List<Future<String>> futures = new ArrayList<>(payloads.size());
+
+        for (Object payload : payloads) {
+            futures.add(executor.submit(() -> createToken(payload)));
+        }
+
+        try {
+            for (Future<String> future : futures) {
+                tokens.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            for (Future<String> future : futures) {
+                future.cancel(false);
+            }
+
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+
+        return tokens;
+    }
 
     public String createInternalToken(final Map<String, ?> payloadMap) {
         Algorithm algorithm = Algorithm.HMAC256(getPluginSecret());
@@ -98,6 +155,29 @@ public class JwtManagerImpl extends DefaultJwtManager implements JwtManager {
         return "";
     }
 
+    private ThreadPoolExecutor getSigningExecutor() {
+        if (signingExecutor == null) {
+            synchronized (this) {
+                if (signingExecutor == null) {
+                    int defaultThreads = Math.min(MAX_DEFAULT_SIGNING_THREADS,
+                            Runtime.getRuntime().availableProcessors());
+                    int threads = Math.max(1, settingsManager.getSettingInteger("jwt.signing.threads",
+                            defaultThreads));
+
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS,
+                            TimeUnit.SECONDS, new ArrayBlockingQueue<>(SIGNING_QUEUE_SIZE),
+                            new NamedThreadFactory("onlyoffice-jwt-signing"),
+                            new ThreadPoolExecutor.CallerRunsPolicy());
+                    executor.allowCoreThreadTimeOut(true);
+
+                    signingExecutor = executor;
+                }
+            }
+        }
+
+        return signingExecutor;
+    }
+
     private String getPluginSecret() {
         if (pluginSettings.get("onlyoffice.plugin-secret") == null
                 || pluginSettings.get("onlyoffice.plugin-secret").equals("")) {
@@ -22,8 +22,11 @@ import com.atlassian.sal.api.pluginsettings.PluginSettings;
 import com.atlassian.sal.api.pluginsettings.PluginSettingsFactory;
 import com.onlyoffice.manager.settings.DefaultSettingsManager;
 
-public class SettingsManagerImpl extends DefaultSettingsManager {
+import java.util.UUID;
+
+public class SettingsManagerImpl extends DefaultSettingsManager implements SettingsManager {
     private static final String SETTINGS_PREFIX = "onlyoffice.";
+    private static final String SETTINGS_REVISION = "settings.revision";
 
     private final PluginSettings pluginSettings;
 
@@ -37,11 +40,47 @@ public class SettingsManagerImpl extends DefaultSettingsManager {
             return null;
         }
 
-        return (String) pluginSettings.get(SETTINGS_PREFIX + name);
+        String value = (String) pluginSettings.get(SETTINGS_PREFIX + name);
+
+        if (value == null || value.isEmpty()) {
+            value = System.getProperty(SETTINGS_PREFIX + name);
+        }
+
+        return value;
     }
 
     @Override
     public void setSetting(final String name, final String value) {
          pluginSettings.put(SETTINGS_PREFIX + name, value);
+         pluginSettings.put(SETTINGS_PREFIX + SETTINGS_REVISION, UUID.randomUUID().toString());
+    }
+
+    @Override
+    public String getSettingsRevision() {
+        String revision = (String) pluginSettings.get(SETTINGS_PREFIX + SETTINGS_REVISION);
+
+        return revision != null ? revision : "";
+    }
+
+    @Override
+    public Integer getSettingInteger(final String name, final Integer defaultValue) {
+        Long value = getSettingLong(name, defaultValue == null ? null : defaultValue.longValue());
+
+        return value == null ? null : value.intValue();
+    }
+
+    @Override
+    public Long getSettingLong(final String name, final Long defaultValue) {
+        String value = getSetting(name);
+
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
     }
 }
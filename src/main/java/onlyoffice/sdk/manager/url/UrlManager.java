@@ -28,4 +28,7 @@ public interface UrlManager extends com.onlyoffice.manager.url.UrlManager {
     String getReferenceDataUri(Long pageId);
     String getFaviconUrl(DocumentType documentType);
     String getUsersInfoUrl();
+    String getUsersSearchUrl();
+    String getAvatarUrl(String userKey, String version);
+    String getConvertedFileUrl(Long attachmentId, String key, String fileName);
 }
@@ -19,12 +19,10 @@
 package onlyoffice.sdk.manager.url;
 
 import com.atlassian.confluence.pages.Attachment;
-import com.atlassian.confluence.pages.AttachmentManager;
 import com.atlassian.confluence.setup.settings.SettingsManager;
 import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
 import com.atlassian.confluence.user.ConfluenceUser;
 import com.atlassian.confluence.util.HtmlUtil;
-import com.atlassian.spring.container.ContainerManager;
 import com.atlassian.webresource.api.UrlMode;
 import com.atlassian.webresource.api.WebResourceUrlProvider;
 import com.onlyoffice.manager.document.DocumentManager;
@@ -44,6 +42,8 @@ public class UrlManagerImpl extends DefaultUrlManager implements UrlManager {
     public static final String FILE_PROVIDER_SERVLET = "/plugins/servlet/onlyoffice/file-provider";
     public static final String CALLBACK_SERVLET = "/plugins/servlet/onlyoffice/save";
     public static final String HISTORY_SERVLET = "/plugins/servlet/onlyoffice/history";
+    public static final String CONVERTED_FILE_SERVLET = "/plugins/servlet/onlyoffice/converted";
+    public static final String AVATAR_SERVLET = "/plugins/servlet/onlyoffice/avatar";
 
     private final WebResourceUrlProvider webResourceUrlProvider;
     private final SettingsManager settingsManager;
@@ -102,9 +102,7 @@ public class UrlManagerImpl extends DefaultUrlManager implements UrlManager {
     @Override
     public String getGobackUrl(final String fileId) {
         String viewPageAttachments = "/pages/viewpageattachments.action?pageId=";
-        AttachmentManager attachmentManager =
-                (AttachmentManager) ContainerManager.getComponent("attachmentManager");
-        Attachment attachment = attachmentManager.getAttachment(Long.parseLong(fileId));
+        Attachment attachment = attachmentUtil.getAttachment(Long.parseLong(fileId));
         return settingsManager.getGlobalSettings().getBaseUrl()
                 + viewPageAttachments
                 + attachment.getContainer().getContentId().asLong();
@@ -183,6 +181,32 @@ public class UrlManagerImpl extends DefaultUrlManager implements UrlManager {
         return usersInfoUrl;
     }
 
+    public String getUsersSearchUrl() {
+        String usersSearchUrl = getConfluenceBaseUrl(false) + API_SERVLET + "?type=users-search";
+
+        return usersSearchUrl;
+    }
+
+    public String getAvatarUrl(final String userKey, final String version) {
+        Map<String, String> params = new HashMap<>();
+        params.put("userKey", userKey);
+        params.put("version", version);
+        params.put("action", "avatar");
+
+        return getConfluenceBaseUrl(false) + AVATAR_SERVLET + "?token=" + jwtManager.createInternalToken(params);
+    }
+
+    public String getConvertedFileUrl(final Long attachmentId, final String key, final String fileName) {
+        Map<String, String> params = new HashMap<>();
+        params.put("attachmentId", String.valueOf(attachmentId));
+        params.put("key", key);
+        params.put("fileName", fileName);
+        params.put("action", "converted");
+
+        return getConfluenceBaseUrl(false) + CONVERTED_FILE_SERVLET + "?token="
+                + jwtManager.createInternalToken(params);
+    }
+
     private String getConfluenceBaseUrl(final Boolean inner) {
         String productInnerUrl = getSettingsManager().getSetting(SettingsConstants.PRODUCT_INNER_URL);
 
@@ -22,37 +22,82 @@ import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
 import com.atlassian.confluence.user.ConfluenceUser;
 import com.onlyoffice.client.DocumentServerClient;
 import com.onlyoffice.manager.security.JwtManager;
-import com.onlyoffice.manager.settings.SettingsManager;
 
 import com.onlyoffice.model.convertservice.ConvertRequest;
 import com.onlyoffice.model.convertservice.ConvertResponse;
 import com.onlyoffice.model.documenteditor.Callback;
 import com.onlyoffice.service.documenteditor.callback.DefaultCallbackService;
 import com.onlyoffice.service.convert.ConvertService;
+import onlyoffice.managers.callback.CallbackIdempotencyManager;
+import onlyoffice.managers.metrics.MetricsManager;
+import onlyoffice.managers.metrics.StageTimer;
 import onlyoffice.sdk.manager.document.DocumentManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
 import onlyoffice.sdk.manager.url.UrlManager;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.stream.SpoolOutputStream;
+import onlyoffice.utils.stream.StreamUtil;
+import org.apache.hc.client5.http.utils.Hex;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class CallbackServiceImpl extends DefaultCallbackService {
+    private final Logger log = LogManager.getLogger("onlyoffice.sdk.service.CallbackServiceImpl");
+
+    private static final long DEFAULT_SLOW_SAVE_THRESHOLD = 10000L;
+
     private final AttachmentUtil attachmentUtil;
     private final ConvertService convertService;
     private final DocumentServerClient documentServerClient;
     private final UrlManager urlManager;
     private final DocumentManager documentManager;
+    private final StreamUtil streamUtil;
+    private final CallbackIdempotencyManager callbackIdempotencyManager;
+    private final SettingsManager settingsManager;
+    private final MetricsManager metricsManager;
 
     public CallbackServiceImpl(final JwtManager jwtManager, final AttachmentUtil attachmentUtil,
                                final ConvertService convertService, final DocumentServerClient documentServerClient,
                                final SettingsManager settingsManager, final UrlManager urlManager,
-                               final DocumentManager documentManager) {
+                               final DocumentManager documentManager, final StreamUtil streamUtil,
+                               final CallbackIdempotencyManager callbackIdempotencyManager,
+                               final MetricsManager metricsManager) {
         super(jwtManager, settingsManager);
         this.attachmentUtil = attachmentUtil;
         this.convertService = convertService;
         this.documentServerClient = documentServerClient;
         this.urlManager = urlManager;
         this.documentManager = documentManager;
+        this.streamUtil = streamUtil;
+        this.callbackIdempotencyManager = callbackIdempotencyManager;
+        this.settingsManager = settingsManager;
+        this.metricsManager = metricsManager;
+    }
+
+    @Override
+    public void processCallback(final Callback callback, final String fileId) throws Exception {
+        if (!callbackIdempotencyManager.claim(callback, fileId)) {
+            return;
+        }
+
+        boolean processed = false;
+        try {
+            super.processCallback(callback, fileId);
+            processed = true;
+        } finally {
+            if (processed) {
+                callbackIdempotencyManager.markProcessed(callback, fileId);
+            } else {
+                callbackIdempotencyManager.release(callback, fileId);
+            }
+        }
     }
 
     public void handlerSave(final Callback callback, final String fileId) throws Exception {
@@ -78,26 +123,81 @@ public class CallbackServiceImpl extends DefaultCallbackService {
                 .url(url)
                 .build();
 
-        if (!extension.equals(fileType)) {
-            ConvertResponse convertResponse = convertService.processConvert(convertRequest,
-                    String.valueOf(attachmentId));
-            url = convertResponse.getFileUrl();
-        }
+        List<StageTimer> timers = new ArrayList<>();
+        SpoolOutputStream spool = streamUtil.createSpool();
+
+        StageTimer totalTimer = metricsManager.startTimer("callback.total");
 
-        Path tempFile = null;
         try {
-            tempFile = Files.createTempFile(null, null);
+            if (!extension.equals(fileType)) {
+                try (StageTimer timer = metricsManager.startTimer("callback.convert")) {
+                    timers.add(timer);
+
+                    ConvertResponse convertResponse = convertService.processConvert(convertRequest,
+                            String.valueOf(attachmentId));
+                    url = convertResponse.getFileUrl();
+
+                    timer.success();
+                }
+            }
+
+            MessageDigest messageDigest = MessageDigest.getInstance(AttachmentUtil.CONTENT_HASH_ALGORITHM);
+            try (StageTimer timer = metricsManager.startTimer("callback.download")) {
+                timers.add(timer);
+
+                documentServerClient.getFile(url, new DigestOutputStream(spool, messageDigest));
 
-            documentServerClient.getFile(
-                    url,
-                    Files.newOutputStream(tempFile)
-            );
+                timer.setBytes(spool.getSize());
+                timer.success();
+            }
+
+            String contentHash = null;
+            if (settingsManager.getSettingBoolean("save.skipUnchanged", true)) {
+                contentHash = Hex.encodeHexString(messageDigest.digest());
+            }
+
+            try (StageTimer timer = metricsManager.startTimer("callback.save");
+                 InputStream inputStream = spool.getInputStream()) {
+                timers.add(timer);
+
+                boolean saved = attachmentUtil.saveAttachmentAsNewVersion(attachmentId, inputStream, spool.getSize(),
+                        contentHash, user);
 
-            attachmentUtil.saveAttachmentAsNewVersion(attachmentId, tempFile.toFile(), user);
+                timer.setBytes(saved ? spool.getSize() : 0);
+                timer.success();
+            }
+
+            totalTimer.setBytes(spool.getSize());
+            totalTimer.success();
         } finally {
-            if (tempFile != null) {
-                Files.deleteIfExists(tempFile);
+            totalTimer.close();
+            spool.discard();
+
+            logSlowSave(attachmentId, totalTimer, timers);
+        }
+    }
+
+    private void logSlowSave(final Long attachmentId, final StageTimer totalTimer, final List<StageTimer> timers) {
+        long threshold = settingsManager.getSettingLong("metrics.slowSaveThreshold", DEFAULT_SLOW_SAVE_THRESHOLD);
+        long total = TimeUnit.NANOSECONDS.toMillis(totalTimer.getElapsedNanos());
+
+        if (total < threshold) {
+            return;
+        }
+
+        StageTimer dominant = null;
+        StringBuilder stages = new StringBuilder();
+
+        for (StageTimer timer : timers) {
+            if (dominant == null || timer.getElapsedNanos() > dominant.getElapsedNanos()) {
+                dominant = timer;
             }
+
+            stages.append(stages.length() > 0 ? ", " : "").append(timer.getStage()).append("=")
+                    .append(TimeUnit.NANOSECONDS.toMillis(timer.getElapsedNanos())).append("ms");
         }
+
+        log.warn("Slow save of attachment " + attachmentId + ": " + total + "ms, dominated by "
+                + (dominant != null ? dominant.getStage() : "unknown") + " (" + stages + ")");
     }
 }
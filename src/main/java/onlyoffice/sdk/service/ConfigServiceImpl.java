@@ -22,31 +22,107 @@ import com.atlassian.confluence.status.service.SystemInformationService;
 import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
 import com.atlassian.confluence.user.ConfluenceUser;
 import com.onlyoffice.manager.security.JwtManager;
-import com.onlyoffice.manager.settings.SettingsManager;
 import com.onlyoffice.manager.url.UrlManager;
 import com.onlyoffice.model.common.User;
+import com.onlyoffice.model.documenteditor.Config;
 import com.onlyoffice.model.documenteditor.config.document.Permissions;
 import com.onlyoffice.model.documenteditor.config.document.ReferenceData;
+import com.onlyoffice.model.documenteditor.config.document.Type;
 import com.onlyoffice.model.documenteditor.config.editorconfig.Customization;
+import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
 import com.onlyoffice.service.documenteditor.config.DefaultConfigService;
 import com.onlyoffice.manager.document.DocumentManager;
+import onlyoffice.managers.cache.ConfigCacheManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
 import onlyoffice.utils.attachment.AttachmentUtil;
+import onlyoffice.utils.json.JsonUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+
 public class ConfigServiceImpl extends DefaultConfigService {
 
     private final Logger log = LogManager.getLogger("onlyoffice.ConfigServiceImpl");
     private final SystemInformationService sysInfoService;
+    private final UrlManager urlManager;
+    private final JwtManager jwtManager;
+    private final SettingsManager settingsManager;
+    private final ConfigCacheManager configCacheManager;
+    private final JsonUtil jsonUtil;
 
     private AttachmentUtil attachmentUtil;
 
     public ConfigServiceImpl(final DocumentManager documentManager, final UrlManager urlManager,
                              final JwtManager jwtManager, final SystemInformationService sysInfoService,
-                             final AttachmentUtil attachmentUtil, final SettingsManager settingsManager) {
+                             final AttachmentUtil attachmentUtil, final SettingsManager settingsManager,
+                             final ConfigCacheManager configCacheManager, final JsonUtil jsonUtil) {
         super(documentManager, urlManager, jwtManager, settingsManager);
         this.sysInfoService = sysInfoService;
+        this.urlManager = urlManager;
+        this.jwtManager = jwtManager;
+        this.settingsManager = settingsManager;
         this.attachmentUtil = attachmentUtil;
+        this.configCacheManager = configCacheManager;
+        this.jsonUtil = jsonUtil;
+    }
+
+    @Override
+    public Config createConfig(final String fileId, final Mode mode, final Type type) {
+        String key = getSkeletonKey(fileId, mode, type);
+        String skeleton = configCacheManager.get(key);
+
+        if (skeleton != null) {
+            try {
+                Config config = jsonUtil.fromJson(skeleton, Config.class);
+
+                config.getDocument().setUrl(urlManager.getFileUrl(fileId));
+                config.getDocument().setPermissions(getPermissions(fileId));
+                config.getEditorConfig().setUser(getUser());
+
+                if (config.getEditorConfig().getCallbackUrl() != null) {
+                    config.getEditorConfig().setCallbackUrl(urlManager.getCallbackUrl(fileId));
+                }
+
+                if (settingsManager.isSecurityEnabled()) {
+                    config.setToken(jwtManager.createToken(config));
+                }
+
+                return config;
+            } catch (IOException e) {
+                log.warn("Unable to restore cached config of attachment " + fileId + ": " + e.getMessage());
+            }
+        }
+
+        Config config = super.createConfig(fileId, mode, type);
+
+        if (skeleton != null) {
+            return config;
+        }
+
+        try {
+            String token = config.getToken();
+
+            config.setToken(null);
+            configCacheManager.put(key, jsonUtil.toJson(config));
+            config.setToken(token);
+        } catch (IOException e) {
+            log.debug("Unable to cache config of attachment " + fileId + ": " + e.getMessage());
+        }
+
+        return config;
+    }
+
+    private String getSkeletonKey(final String fileId, final Mode mode, final Type type) {
+        ConfluenceUser user = AuthenticatedUserThreadLocal.get();
+        Long attachmentId = Long.parseLong(fileId);
+
+        boolean edit = attachmentUtil.checkAccess(attachmentId, user, true);
+        boolean create = user != null
+                && attachmentUtil.checkAccessCreate(user, attachmentUtil.getAttachmentPageId(attachmentId));
+
+        return getDocumentManager().getDocumentKey(fileId, false) + "_" + fileId + "_" + mode + "_" + type
+                + "_" + (user != null) + "_" + edit + "_" + create + "_" + settingsManager.getSettingsRevision();
     }
 
     @Override
@@ -22,24 +22,30 @@ import com.atlassian.confluence.core.ContentEntityObject;
 import com.atlassian.confluence.pages.Attachment;
 import com.atlassian.confluence.user.ConfluenceUser;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.util.List;
 
 public interface AttachmentUtil extends Serializable {
+    String CONTENT_HASH_ALGORITHM = "SHA-256";
+
     Attachment getAttachment(Long attachmentId);
 
     Attachment getAttachmentByName(String fileName, Long pageId);
 
+    List<Attachment> getPermittedAttachments(List<Long> attachmentIds, ConfluenceUser user);
+
     boolean checkAccess(Long attachmentId, ConfluenceUser user, boolean forEdit);
 
     boolean checkAccess(Attachment attachment, ConfluenceUser user, boolean forEdit);
 
     boolean checkAccessCreate(ConfluenceUser user, Long pageId);
 
-    void saveAttachmentAsNewVersion(Long attachmentId, File file, ConfluenceUser user) throws IOException;
+    boolean saveAttachmentAsNewVersion(Long attachmentId, InputStream inputStream, long size, String contentHash,
+                                       ConfluenceUser user) throws IOException;
+
+    String getContentHash(Attachment attachment) throws IOException;
 
     InputStream getAttachmentData(Long attachmentId);
 
@@ -47,6 +53,8 @@ public interface AttachmentUtil extends Serializable {
 
     String getHashCode(Long attachmentId);
 
+    String getHashCode(Attachment attachment);
+
     List<Attachment> getAllVersions(Long attachmentId);
 
     int getVersion(Long attachmentId);
@@ -59,11 +67,11 @@ public interface AttachmentUtil extends Serializable {
 
     String getAttachmentSpaceKey(Long attachmentId);
 
-    Attachment createNewAttachment(String title, String mimeType, InputStream file, int size, Long pageId,
+    Attachment createNewAttachment(String title, String mimeType, InputStream file, long size, Long pageId,
                                    ConfluenceUser user) throws IOException;
 
-    Attachment createNewAttachment(String fileName, String mimeType, File file, Long pageId, ConfluenceUser user)
-            throws IOException;
+    Long saveAttachmentCopy(Attachment attachment, InputStream inputStream, long size, String fileName,
+                            String mediaType, Long pageId) throws IOException;
 
     ContentEntityObject getContainer(Long containerId);
 
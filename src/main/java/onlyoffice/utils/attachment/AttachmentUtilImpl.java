@@ -20,27 +20,42 @@ package onlyoffice.utils.attachment;
 
 import com.atlassian.confluence.core.ContentEntityManager;
 import com.atlassian.confluence.core.ContentEntityObject;
+import com.atlassian.confluence.core.ContentPropertyManager;
 import com.atlassian.confluence.pages.Attachment;
 import com.atlassian.confluence.pages.AttachmentManager;
 import com.atlassian.confluence.security.Permission;
 import com.atlassian.confluence.security.PermissionManager;
 import com.atlassian.confluence.user.AuthenticatedUserThreadLocal;
 import com.atlassian.confluence.user.ConfluenceUser;
+import com.atlassian.core.filters.ServletContextThreadLocal;
 import com.atlassian.spring.container.ContainerManager;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.hc.client5.http.utils.Hex;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class AttachmentUtilImpl implements AttachmentUtil {
     private final Logger log = LogManager.getLogger("onlyoffice.utils.attachment.AttachmentUtil");
 
+    private static final String CONTENT_HASH_PROPERTY = "onlyoffice-content-hash";
+    private static final String REQUEST_ATTACHMENTS = "onlyoffice.attachments";
+    private static final String REQUEST_CONTAINERS = "onlyoffice.containers";
+    private static final int BUFFER_SIZE = 8192;
+
     private final AttachmentManager attachmentManager;
 
     public AttachmentUtilImpl(final AttachmentManager attachmentManager) {
@@ -48,17 +63,17 @@ public class AttachmentUtilImpl implements AttachmentUtil {
     }
 
     public Attachment getAttachment(final Long attachmentId) {
-        try {
-            return attachmentManager.getAttachment(attachmentId);
-        } catch (NullPointerException e) {
-            return null;
+        Map<Long, Attachment> attachments = getRequestScope(REQUEST_ATTACHMENTS);
+
+        if (attachments == null || attachmentId == null) {
+            return loadAttachment(attachmentId);
         }
+
+        return attachments.computeIfAbsent(attachmentId, this::loadAttachment);
     }
 
     public Attachment getAttachmentByName(final String fileName, final Long pageId) {
-        ContentEntityManager contentEntityManager =
-                (ContentEntityManager) ContainerManager.getComponent("contentEntityManager");
-        ContentEntityObject contentEntityObject = contentEntityManager.getById(pageId);
+        ContentEntityObject contentEntityObject = getContainer(pageId);
 
         List<Attachment> attachments = attachmentManager.getLatestVersionsOfAttachments(contentEntityObject);
 
@@ -71,8 +86,43 @@ public class AttachmentUtilImpl implements AttachmentUtil {
         return null;
     }
 
+    public List<Attachment> getPermittedAttachments(final List<Long> attachmentIds, final ConfluenceUser user) {
+        Map<Long, Attachment> attachments = new LinkedHashMap<>();
+
+        for (Long attachmentId : attachmentIds) {
+            if (attachmentId != null && !attachments.containsKey(attachmentId)) {
+                Attachment attachment = getAttachment(attachmentId);
+
+                if (attachment != null) {
+                    attachments.put(attachmentId, attachment);
+                }
+            }
+        }
+
+        if (attachments.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        PermissionManager permissionManager = (PermissionManager) ContainerManager.getComponent("permissionManager");
+
+        Set<Long> permitted = new HashSet<>();
+        for (Attachment attachment : permissionManager.getPermittedEntities(user, Permission.VIEW,
+                new ArrayList<>(attachments.values()))) {
+            permitted.add(attachment.getId());
+        }
+
+        List<Attachment> result = new ArrayList<>(attachmentIds.size());
+        for (Long attachmentId : attachmentIds) {
+            if (permitted.contains(attachmentId)) {
+                result.add(attachments.get(attachmentId));
+            }
+        }
+
+        return result;
+    }
+
     public boolean checkAccess(final Long attachmentId, final ConfluenceUser user, final boolean forEdit) {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = getAttachment(attachmentId);
 
         return checkAccess(attachment, user, forEdit);
     }
@@ -103,39 +153,87 @@ public class AttachmentUtilImpl implements AttachmentUtil {
         return access;
     }
 
-    public void saveAttachmentAsNewVersion(final Long attachmentId, final File file, final ConfluenceUser user)
+    public boolean saveAttachmentAsNewVersion(final Long attachmentId, final InputStream inputStream,
+                                              final long size, final String contentHash, final ConfluenceUser user)
             throws IOException {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = getAttachment(attachmentId);
+
+        if (contentHash != null && attachment.getFileSize() == size
+                && contentHash.equals(getContentHash(attachment))) {
+            log.info("Content of attachment " + attachmentId + " is unchanged, new version is not created");
+            return false;
+        }
 
         Attachment oldAttachment = attachment.copy();
-        attachment.setFileSize(file.length());
+        attachment.setFileSize(size);
 
         AuthenticatedUserThreadLocal.set(user);
 
-        attachmentManager.saveAttachment(attachment, oldAttachment, Files.newInputStream(file.toPath()));
+        attachmentManager.saveAttachment(attachment, oldAttachment, inputStream);
+        forgetAttachment(attachmentId);
+
+        if (contentHash != null) {
+            setContentHash(attachment, contentHash);
+        }
+
+        return true;
+    }
+
+    public String getContentHash(final Attachment attachment) throws IOException {
+        ContentPropertyManager contentPropertyManager =
+                (ContentPropertyManager) ContainerManager.getComponent("contentPropertyManager");
+
+        String versionPrefix = attachment.getVersion() + ":";
+        String storedHash = contentPropertyManager.getStringProperty(attachment, CONTENT_HASH_PROPERTY);
+
+        if (storedHash != null && storedHash.startsWith(versionPrefix)) {
+            return storedHash.substring(versionPrefix.length());
+        }
+
+        String contentHash;
+        try (InputStream inputStream = attachmentManager.getAttachmentData(attachment)) {
+            MessageDigest messageDigest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+
+            while ((read = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+
+            contentHash = Hex.encodeHexString(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        setContentHash(attachment, contentHash);
+
+        return contentHash;
     }
 
     public InputStream getAttachmentData(final Long attachmentId) {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = getAttachment(attachmentId);
         return attachmentManager.getAttachmentData(attachment);
     }
 
     public String getMediaType(final Long attachmentId) {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = getAttachment(attachmentId);
         return attachment.getMediaType();
     }
 
     public String getHashCode(final Long attachmentId) {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        return getHashCode(getAttachment(attachmentId));
+    }
+
+    public String getHashCode(final Attachment attachment) {
         int hashCode = attachment.hashCode();
         log.info("hashCode = " + hashCode);
 
         int version = attachment.getVersion();
-        return attachmentId + "_" + version + "_" + hashCode;
+        return attachment.getId() + "_" + version + "_" + hashCode;
     }
 
     public List<Attachment> getAllVersions(final Long attachmentId) {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = getAttachment(attachmentId);
         if (attachment != null) {
             return attachmentManager.getAllVersions(attachment);
         }
@@ -143,12 +241,12 @@ public class AttachmentUtilImpl implements AttachmentUtil {
     }
 
     public int getVersion(final Long attachmentId) {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = getAttachment(attachmentId);
         return attachment.getVersion();
     }
 
     public String getAttachmentPageTitle(final Long attachmentId) {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = getAttachment(attachmentId);
         if (attachment != null) {
             return attachment.getContainer().getTitle();
         }
@@ -156,7 +254,7 @@ public class AttachmentUtilImpl implements AttachmentUtil {
     }
 
     public Long getAttachmentPageId(final Long attachmentId) {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = getAttachment(attachmentId);
         if (attachment != null) {
             return attachment.getContainer().getId();
         }
@@ -164,7 +262,7 @@ public class AttachmentUtilImpl implements AttachmentUtil {
     }
 
     public String getAttachmentSpaceName(final Long attachmentId) {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = getAttachment(attachmentId);
         if (attachment != null) {
             return attachment.getSpace().getName();
         }
@@ -172,7 +270,7 @@ public class AttachmentUtilImpl implements AttachmentUtil {
     }
 
     public String getAttachmentSpaceKey(final Long attachmentId) {
-        Attachment attachment = attachmentManager.getAttachment(attachmentId);
+        Attachment attachment = getAttachment(attachmentId);
         if (attachment != null) {
             return attachment.getSpace().getKey();
         }
@@ -180,7 +278,7 @@ public class AttachmentUtilImpl implements AttachmentUtil {
     }
 
     public Attachment createNewAttachment(final String fileName, final String mimeType, final InputStream file,
-                                          final int size, final Long pageId, final ConfluenceUser user)
+                                          final long size, final Long pageId, final ConfluenceUser user)
             throws IOException {
         Date date = Calendar.getInstance().getTime();
         ContentEntityObject container = getContainer(pageId);
@@ -199,42 +297,79 @@ public class AttachmentUtilImpl implements AttachmentUtil {
         return attachment;
     }
 
-    public Attachment createNewAttachment(final String fileName, final String mimeType, final File file,
-                                          final Long pageId, final ConfluenceUser user)
+    public Long saveAttachmentCopy(final Attachment attachment, final InputStream inputStream, final long size,
+                                   final String fileName, final String mediaType, final Long pageId)
             throws IOException {
-        Date date = Calendar.getInstance().getTime();
-        ContentEntityObject container = getContainer(pageId);
+        Attachment copy = attachment.copyLatestVersion();
 
-        Attachment attachment = new Attachment(
-                fileName,
-                mimeType,
-                file.length(),
-                ""
-        );
+        copy.setContainer(getContainer(pageId));
+        copy.setFileName(fileName);
+        copy.setFileSize(size);
+        copy.setMediaType(mediaType);
 
-        attachment.setCreator(user);
-        attachment.setCreationDate(date);
-        attachment.setLastModificationDate(date);
-        attachment.setContainer(container);
+        attachmentManager.saveAttachment(copy, null, inputStream);
+        forgetAttachment(attachment.getId());
 
-        attachmentManager.saveAttachment(attachment, null, Files.newInputStream(file.toPath()));
+        return copy.getLatestVersionId();
+    }
 
-        container.addAttachment(attachment);
+    private void setContentHash(final Attachment attachment, final String contentHash) {
+        ContentPropertyManager contentPropertyManager =
+                (ContentPropertyManager) ContainerManager.getComponent("contentPropertyManager");
 
-        return attachment;
+        contentPropertyManager.setStringProperty(attachment, CONTENT_HASH_PROPERTY,
+                attachment.getVersion() + ":" + contentHash);
     }
 
     public ContentEntityObject getContainer(final Long containerId) {
         ContentEntityManager contentEntityManager =
                 (ContentEntityManager) ContainerManager.getComponent("contentEntityManager");
-        return contentEntityManager.getById(containerId);
+        Map<Long, ContentEntityObject> containers = getRequestScope(REQUEST_CONTAINERS);
+
+        if (containers == null || containerId == null) {
+            return contentEntityManager.getById(containerId);
+        }
+
+        return containers.computeIfAbsent(containerId, contentEntityManager::getById);
+    }
+
+    private Attachment loadAttachment(final Long attachmentId) {
+        try {
+            return attachmentManager.getAttachment(attachmentId);
+        } catch (NullPointerException e) {
+            return null;
+        }
+    }
+
+    private void forgetAttachment(final Long attachmentId) {
+        Map<Long, Attachment> attachments = getRequestScope(REQUEST_ATTACHMENTS);
+
+        if (attachments != null) {
+            attachments.remove(attachmentId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Map<Long, T> getRequestScope(final String name) {
+        HttpServletRequest request = ServletContextThreadLocal.getRequest();
+
+        if (request == null) {
+            return null;
+        }
+
+        Map<Long, T> scope = (Map<Long, T>) request.getAttribute(name);
+
+        if (scope == null) {
+            scope = new HashMap<>();
+            request.setAttribute(name, scope);
+        }
+
+        return scope;
     }
 
     public String getCorrectName(final String fileName, final String fileExt, final Long pageID) {
-        ContentEntityManager contentEntityManager =
-                (ContentEntityManager) ContainerManager.getComponent("contentEntityManager");
         AttachmentManager attachmentManager = (AttachmentManager) ContainerManager.getComponent("attachmentManager");
-        ContentEntityObject contentEntityObject = contentEntityManager.getById(pageID);
+        ContentEntityObject contentEntityObject = getContainer(pageID);
 
         List<Attachment> attachments = attachmentManager.getLatestVersionsOfAttachments(contentEntityObject);
         String name = (fileName + "." + fileExt).replaceAll("[*?:\"<>/|\\\\]", "_");
@@ -0,0 +1,90 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.utils.json;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class GzipThresholdOutputStream extends OutputStream {
+    private final HttpServletResponse response;
+    private final int threshold;
+
+    private ByteArrayOutputStream buffer;
+    private OutputStream target;
+    private boolean closed;
+
+    public GzipThresholdOutputStream(final HttpServletResponse response, final int threshold) {
+        this.response = response;
+        this.threshold = threshold;
+        this.buffer = new ByteArrayOutputStream(Math.min(threshold, JsonUtilImpl.INITIAL_BUFFER_SIZE));
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (target != null) {
+            target.write(bytes, offset, length);
+            return;
+        }
+
+        buffer.write(bytes, offset, length);
+
+        if (buffer.size() > threshold) {
+            response.setHeader("Content-Encoding", "gzip");
+
+            target = new GZIPOutputStream(response.getOutputStream(), JsonUtilImpl.INITIAL_BUFFER_SIZE);
+            buffer.writeTo(target);
+            buffer = null;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (target != null) {
+            target.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        if (target != null) {
+            target.close();
+        } else {
+            response.setContentLength(buffer.size());
+
+            OutputStream outputStream = response.getOutputStream();
+            buffer.writeTo(outputStream);
+            outputStream.flush();
+        }
+    }
+}
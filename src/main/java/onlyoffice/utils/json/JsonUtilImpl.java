@@ -0,0 +1,126 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.utils.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.onlyoffice.model.convertservice.ConvertResponse;
+import com.onlyoffice.model.documenteditor.Config;
+import com.onlyoffice.model.documenteditor.HistoryData;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import onlyoffice.model.dto.UsersInfoResponse;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class JsonUtilImpl implements JsonUtil {
+    static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private static final long BYTES_IN_KILOBYTE = 1024L;
+    private static final long DEFAULT_GZIP_THRESHOLD = 8L;
+
+    private final SettingsManager settingsManager;
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JsonUtilImpl(final SettingsManager settingsManager) {
+        this.settingsManager = settingsManager;
+
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(JSONObject.class, new JsonSerializer<JSONObject>() {
+            @Override
+            public void serialize(final JSONObject jsonObject, final JsonGenerator jsonGenerator,
+                                  final SerializerProvider serializerProvider) throws IOException {
+                jsonGenerator.writeObject(jsonObject.toMap());
+            }
+        });
+
+        objectMapper = new ObjectMapper().registerModule(module);
+
+        for (Class<?> type : Arrays.asList(Config.class, HistoryData.class, UsersInfoResponse.class,
+                ConvertResponse.class)) {
+            getWriter(type);
+        }
+    }
+
+    public String toJson(final Object value) throws IOException {
+        return getWriter(value).writeValueAsString(value);
+    }
+
+    public ObjectNode toTree(final Object value) {
+        return objectMapper.valueToTree(value);
+    }
+
+    public <T> T fromJson(final String json, final Class<T> valueType) throws IOException {
+        return getReader(valueType).readValue(json);
+    }
+
+    public void writeJson(final HttpServletRequest request, final HttpServletResponse response, final Object value)
+            throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader("Vary", "Accept-Encoding");
+
+        long threshold = settingsManager.getSettingLong("response.gzipThreshold", DEFAULT_GZIP_THRESHOLD)
+                * BYTES_IN_KILOBYTE;
+
+        OutputStream outputStream = threshold > 0 && acceptsGzip(request)
+                ? new GzipThresholdOutputStream(response, (int) Math.min(threshold, Integer.MAX_VALUE))
+                : response.getOutputStream();
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            getWriter(value).writeValue(generator, value);
+        }
+    }
+
+    private ObjectWriter getWriter(final Object value) {
+        return value == null ? objectMapper.writer() : getWriter(value.getClass());
+    }
+
+    private ObjectWriter getWriter(final Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    private ObjectReader getReader(final Class<?> type) {
+        return readers.computeIfAbsent(type, key -> objectMapper.readerFor(key)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    private boolean acceptsGzip(final HttpServletRequest request) {
+        String acceptEncoding = request != null ? request.getHeader("Accept-Encoding") : null;
+
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
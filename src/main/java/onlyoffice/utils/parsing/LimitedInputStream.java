@@ -0,0 +1,76 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.utils.parsing;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class LimitedInputStream extends FilterInputStream {
+    private final long limit;
+    private long count = 0;
+
+    public LimitedInputStream(final InputStream inputStream, final long limit) {
+        super(inputStream);
+        this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int result = super.read();
+
+        if (result != -1) {
+            count(1);
+        }
+
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        int result = super.read(bytes, offset, length);
+
+        if (result > 0) {
+            count(result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        long result = super.skip(n);
+        count(result);
+
+        return result;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(final long n) throws IOException {
+        count += n;
+
+        if (count > limit) {
+            throw new IOException("Request body exceeds the limit of " + limit + " bytes");
+        }
+    }
+}
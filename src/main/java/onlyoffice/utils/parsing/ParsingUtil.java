@@ -18,8 +18,11 @@
 
 package onlyoffice.utils.parsing;
 
+import java.io.IOException;
 import java.io.InputStream;
 
 public interface ParsingUtil {
-    String getBody(InputStream stream);
+    String getBody(InputStream stream) throws IOException;
+
+    <T> T getBody(InputStream stream, Class<T> valueType) throws IOException;
 }
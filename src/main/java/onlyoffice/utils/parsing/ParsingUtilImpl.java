@@ -18,20 +18,80 @@
 
 package onlyoffice.utils.parsing;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.Scanner;
+import java.nio.charset.StandardCharsets;
 
 public class ParsingUtilImpl implements ParsingUtil {
-    public String getBody(final InputStream stream) {
-        Scanner scanner = null;
-        Scanner scannerUseDelimiter = null;
-        try {
-            scanner = new Scanner(stream);
-            scannerUseDelimiter = scanner.useDelimiter("\\A");
-            return scanner.hasNext() ? scanner.next() : "";
-        } finally {
-            scannerUseDelimiter.close();
-            scanner.close();
+    private static final long BYTES_IN_KILOBYTE = 1024L;
+    private static final long DEFAULT_MAX_BODY_SIZE = 10240L;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final SettingsManager settingsManager;
+
+    private volatile ObjectMapper objectMapper;
+    private volatile long objectMapperLimit;
+
+    public ParsingUtilImpl(final SettingsManager settingsManager) {
+        this.settingsManager = settingsManager;
+    }
+
+    public String getBody(final InputStream stream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+
+        try (InputStream inputStream = new LimitedInputStream(stream, getMaxBodySize())) {
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    public <T> T getBody(final InputStream stream, final Class<T> valueType) throws IOException {
+        long maxBodySize = getMaxBodySize();
+        ObjectMapper mapper = getObjectMapper(maxBodySize);
+
+        try (JsonParser parser = mapper.getFactory().createParser(new LimitedInputStream(stream, maxBodySize))) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+
+            return mapper.readValue(parser, valueType);
         }
     }
+
+    private long getMaxBodySize() {
+        return settingsManager.getSettingLong("request.maxBodySize", DEFAULT_MAX_BODY_SIZE) * BYTES_IN_KILOBYTE;
+    }
+
+    private ObjectMapper getObjectMapper(final long maxBodySize) {
+        ObjectMapper mapper = objectMapper;
+
+        if (mapper == null || objectMapperLimit != maxBodySize) {
+            JsonFactory jsonFactory = JsonFactory.builder()
+                    .streamReadConstraints(StreamReadConstraints.builder()
+                            .maxDocumentLength(maxBodySize)
+                            .build())
+                    .build();
+
+            mapper = new ObjectMapper(jsonFactory)
+                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+            objectMapper = mapper;
+            objectMapperLimit = maxBodySize;
+        }
+
+        return mapper;
+    }
 }
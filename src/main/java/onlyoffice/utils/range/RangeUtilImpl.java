@@ -0,0 +1,157 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.utils.range;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+public class RangeUtilImpl implements RangeUtil {
+    private final Logger log = LogManager.getLogger("onlyoffice.utils.range.RangeUtil");
+
+    private static final String BYTES_UNIT = "bytes=";
+    private static final int MAX_RANGES = 16;
+    private static final long MILLISECONDS_IN_SECOND = 1000L;
+
+    public List<ByteRange> getRanges(final HttpServletRequest request, final long length, final String eTag,
+                                     final long lastModified) {
+        String rangeHeader = request.getHeader("Range");
+
+        if (rangeHeader == null || !rangeHeader.startsWith(BYTES_UNIT)) {
+            return null;
+        }
+
+        if (!isIfRangeSatisfied(request, eTag, lastModified)) {
+            return null;
+        }
+
+        String[] specs = rangeHeader.substring(BYTES_UNIT.length()).split(",");
+
+        if (specs.length > MAX_RANGES) {
+            log.warn("Range header contains " + specs.length + " ranges, the whole file will be sent");
+            return null;
+        }
+
+        List<ByteRange> ranges = new ArrayList<>();
+
+        for (String spec : specs) {
+            String value = spec.trim();
+            int dashIndex = value.indexOf('-');
+
+            if (dashIndex < 0) {
+                return null;
+            }
+
+            String first = value.substring(0, dashIndex).trim();
+            String last = value.substring(dashIndex + 1).trim();
+
+            long start;
+            long end;
+
+            try {
+                if (first.isEmpty()) {
+                    if (last.isEmpty()) {
+                        return null;
+                    }
+
+                    long suffixLength = Long.parseLong(last);
+                    if (suffixLength < 0) {
+                        return null;
+                    }
+
+                    start = Math.max(0, length - suffixLength);
+                    end = length - 1;
+                } else {
+                    start = Long.parseLong(first);
+                    end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+
+                    if (start < 0 || end < start) {
+                        return null;
+                    }
+
+                    end = Math.min(end, length - 1);
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+
+            if (start < length && start <= end) {
+                ranges.add(new ByteRange(start, end));
+            }
+        }
+
+        return coalesce(ranges);
+    }
+
+    public String getUnsatisfiableContentRange(final long length) {
+        return "bytes */" + length;
+    }
+
+    private boolean isIfRangeSatisfied(final HttpServletRequest request, final String eTag,
+                                       final long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+
+        if (ifRange == null || ifRange.isEmpty()) {
+            return true;
+        }
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return eTag != null && ifRange.equals(eTag);
+        }
+
+        try {
+            long ifRangeDate = request.getDateHeader("If-Range");
+            return ifRangeDate != -1
+                    && ifRangeDate / MILLISECONDS_IN_SECOND == lastModified / MILLISECONDS_IN_SECOND;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private List<ByteRange> coalesce(final List<ByteRange> ranges) {
+        if (ranges.size() < 2) {
+            return ranges;
+        }
+
+        Collections.sort(ranges, Comparator.comparingLong(ByteRange::getStart));
+
+        List<ByteRange> result = new ArrayList<>();
+        ByteRange current = ranges.get(0);
+
+        for (int i = 1; i < ranges.size(); i++) {
+            ByteRange next = ranges.get(i);
+
+            if (next.getStart() <= current.getEnd() + 1) {
+                current = new ByteRange(current.getStart(), Math.max(current.getEnd(), next.getEnd()));
+            } else {
+                result.add(current);
+                current = next;
+            }
+        }
+
+        result.add(current);
+
+        return result;
+    }
+}
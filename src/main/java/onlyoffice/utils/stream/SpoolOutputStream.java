@@ -0,0 +1,127 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.utils.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class SpoolOutputStream extends OutputStream {
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private final long threshold;
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private long size = 0;
+    private Path file;
+    private OutputStream fileStream;
+    private boolean closed = false;
+
+    public SpoolOutputStream(final long threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (closed) {
+            throw new IOException("Spool is closed");
+        }
+
+        if (fileStream == null && size + length > threshold) {
+            spill();
+        }
+
+        if (fileStream != null) {
+            fileStream.write(bytes, offset, length);
+        } else {
+            if (size + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(Math.max(buffer.length * 2L, size + length),
+                        Math.max(threshold, size + length)));
+            }
+
+            System.arraycopy(bytes, offset, buffer, (int) size, length);
+        }
+
+        size += length;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileStream != null) {
+            fileStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+
+            if (fileStream != null) {
+                fileStream.close();
+            }
+        }
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isInMemory() {
+        return file == null;
+    }
+
+    public InputStream getInputStream() throws IOException {
+        close();
+
+        if (file != null) {
+            return Files.newInputStream(file);
+        }
+
+        return new ByteArrayInputStream(buffer, 0, (int) size);
+    }
+
+    public void discard() throws IOException {
+        close();
+
+        buffer = null;
+
+        if (file != null) {
+            Files.deleteIfExists(file);
+            file = null;
+        }
+    }
+
+    private void spill() throws IOException {
+        file = Files.createTempFile("onlyoffice-spool", null);
+        fileStream = Files.newOutputStream(file);
+        fileStream.write(buffer, 0, (int) size);
+
+        buffer = null;
+    }
+}
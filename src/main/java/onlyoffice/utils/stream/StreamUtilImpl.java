@@ -0,0 +1,169 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.utils.stream;
+
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+public class StreamUtilImpl implements StreamUtil {
+    private final Logger log = LogManager.getLogger("onlyoffice.utils.stream.StreamUtil");
+
+    private static final int SMALL_BUFFER_SIZE = 8 * 1024;
+    private static final int MEDIUM_BUFFER_SIZE = 64 * 1024;
+    private static final int LARGE_BUFFER_SIZE = 256 * 1024;
+    private static final int SMALL_POOL_CAPACITY = 64;
+    private static final int MEDIUM_POOL_CAPACITY = 32;
+    private static final int LARGE_POOL_CAPACITY = 8;
+    private static final long MEDIUM_CONTENT_LENGTH = 256 * 1024L;
+    private static final long LARGE_CONTENT_LENGTH = 8 * 1024 * 1024L;
+    private static final long BYTES_IN_KILOBYTE = 1024L;
+    private static final long DEFAULT_SPOOL_THRESHOLD = 4096L;
+
+    private final SettingsManager settingsManager;
+
+    private final BufferPool smallPool = new BufferPool(SMALL_BUFFER_SIZE, SMALL_POOL_CAPACITY);
+    private final BufferPool mediumPool = new BufferPool(MEDIUM_BUFFER_SIZE, MEDIUM_POOL_CAPACITY);
+    private final BufferPool largePool = new BufferPool(LARGE_BUFFER_SIZE, LARGE_POOL_CAPACITY);
+
+    public StreamUtilImpl(final SettingsManager settingsManager) {
+        this.settingsManager = settingsManager;
+    }
+
+    public long copy(final InputStream input, final OutputStream output, final long sizeHint) throws IOException {
+        FileChannel fileChannel = getFileChannel(input);
+
+        if (fileChannel != null) {
+            long length = fileChannel.size() - fileChannel.position();
+            return transfer(fileChannel, output, 0, length);
+        }
+
+        BufferPool pool = getPool(sizeHint);
+        byte[] buffer = pool.acquire();
+        try {
+            long count = 0;
+            for (int read; (read = input.read(buffer)) != -1;) {
+                output.write(buffer, 0, read);
+                count += read;
+            }
+
+            return count;
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    public long copyRange(final InputStream input, final OutputStream output, final long skip, final long length)
+            throws IOException {
+        FileChannel fileChannel = getFileChannel(input);
+
+        if (fileChannel != null) {
+            return transfer(fileChannel, output, skip, length);
+        }
+
+        BufferPool pool = getPool(length);
+        byte[] buffer = pool.acquire();
+        try {
+            long skipped = 0;
+            while (skipped < skip) {
+                long current = input.skip(skip - skipped);
+                if (current <= 0) {
+                    if (input.read() == -1) {
+                        throw new EOFException("Unexpected end of stream while skipping " + skip + " bytes");
+                    }
+                    current = 1;
+                }
+                skipped += current;
+            }
+
+            long count = 0;
+            while (count < length) {
+                int read = input.read(buffer, 0, (int) Math.min(buffer.length, length - count));
+                if (read == -1) {
+                    break;
+                }
+                output.write(buffer, 0, read);
+                count += read;
+            }
+
+            return count;
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    public SpoolOutputStream createSpool() {
+        long threshold = settingsManager.getSettingLong("spool.threshold", DEFAULT_SPOOL_THRESHOLD)
+                * BYTES_IN_KILOBYTE;
+
+        return new SpoolOutputStream(threshold);
+    }
+
+    private long transfer(final FileChannel fileChannel, final OutputStream output, final long skip,
+                          final long length) throws IOException {
+        WritableByteChannel target = Channels.newChannel(output);
+
+        long position = fileChannel.position() + skip;
+        long end = Math.min(position + length, fileChannel.size());
+        long count = 0;
+
+        while (position + count < end) {
+            long transferred = fileChannel.transferTo(position + count, end - position - count, target);
+            if (transferred <= 0) {
+                break;
+            }
+            count += transferred;
+        }
+
+        fileChannel.position(position + count);
+
+        return count;
+    }
+
+    private FileChannel getFileChannel(final InputStream input) {
+        if (input instanceof FileInputStream) {
+            try {
+                return ((FileInputStream) input).getChannel();
+            } catch (RuntimeException e) {
+                log.debug("File channel is not available, falling back to buffered copy", e);
+            }
+        }
+
+        return null;
+    }
+
+    private BufferPool getPool(final long sizeHint) {
+        if (sizeHint >= LARGE_CONTENT_LENGTH) {
+            return largePool;
+        } else if (sizeHint >= MEDIUM_CONTENT_LENGTH) {
+            return mediumPool;
+        } else {
+            return smallPool;
+        }
+    }
+}
@@ -92,9 +92,10 @@
                 if (response.endConvert) {
                     onSuccess(response);
                 } else {
-                    setTimeout(function() {
-                        conversionRequest(url, data, onSuccess, onError);
-                    }, 1000);
+                    data.jobId = response.jobId;
+                    data.percent = response.percent != null ? response.percent : 0;
+
+                    conversionRequest(url, data, onSuccess, onError);
                 }
             },
             error: function (xhr) {
@@ -0,0 +1,73 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+
+public class OnlyOfficeHistoryServletTest {
+    private static final int MAX_VERSIONS = 10;
+
+    @Test
+    public void parsesSingleVersions() {
+        assertEquals(new TreeSet<>(Arrays.asList(1, 3, 5)),
+                OnlyOfficeHistoryServlet.parseVersions("5,1,3", MAX_VERSIONS));
+    }
+
+    @Test
+    public void parsesRangesAndSkipsBlanks() {
+        assertEquals(new TreeSet<>(Arrays.asList(2, 3, 4, 7)),
+                OnlyOfficeHistoryServlet.parseVersions(" 2 - 4 , ,7,3", MAX_VERSIONS));
+    }
+
+    @Test
+    public void returnsNothingForBlankList() {
+        assertEquals(Collections.emptySet(), OnlyOfficeHistoryServlet.parseVersions(" , ", MAX_VERSIONS));
+    }
+
+    @Test
+    public void acceptsExactlyMaxVersions() {
+        assertEquals(MAX_VERSIONS, OnlyOfficeHistoryServlet.parseVersions("1-5,6-10", MAX_VERSIONS).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsReversedRange() {
+        OnlyOfficeHistoryServlet.parseVersions("5-3", MAX_VERSIONS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsRangeLargerThanLimit() {
+        OnlyOfficeHistoryServlet.parseVersions("1-11", MAX_VERSIONS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTooManyVersionsAcrossParts() {
+        OnlyOfficeHistoryServlet.parseVersions("1-5,6-10,11", MAX_VERSIONS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonNumericVersions() {
+        OnlyOfficeHistoryServlet.parseVersions("1,two", MAX_VERSIONS);
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.cache;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DiskCacheTest {
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("onlyoffice-disk-cache").toFile();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Test
+    public void storesAndReturnsEntries() throws IOException {
+        DiskCache cache = new DiskCache(directory, 100);
+
+        assertNull(cache.get("a"));
+
+        File file = cache.put("a", new ByteArrayInputStream(bytes(10)));
+
+        assertArrayEquals(bytes(10), Files.readAllBytes(file.toPath()));
+        assertEquals(file, cache.get("a"));
+        assertEquals(1L, cache.getStatistics().get("hits"));
+        assertEquals(1L, cache.getStatistics().get("misses"));
+        assertEquals(10L, cache.getStatistics().get("size"));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntries() throws IOException {
+        DiskCache cache = new DiskCache(directory, 10);
+
+        cache.put("a", new ByteArrayInputStream(bytes(4)));
+        cache.put("b", new ByteArrayInputStream(bytes(4)));
+        assertNotNull(cache.get("a"));
+
+        cache.put("c", new ByteArrayInputStream(bytes(4)));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertFalse(new File(directory, "b").exists());
+        assertEquals(1L, cache.getStatistics().get("evictions"));
+    }
+
+    @Test
+    public void abandonsFillsLargerThanCache() throws IOException {
+        DiskCache cache = new DiskCache(directory, 10);
+        DiskCache.Fill fill = cache.fill("a");
+
+        fill.write(bytes(8));
+        assertTrue(fill.isOpen());
+
+        fill.write(bytes(8));
+        assertFalse(fill.isOpen());
+
+        assertNull(fill.commit());
+        assertNull(cache.get("a"));
+        assertEquals(0, listFiles().length);
+    }
+
+    @Test
+    public void closingUncommittedFillDeletesTempFile() throws IOException {
+        DiskCache cache = new DiskCache(directory, 100);
+        DiskCache.Fill fill = cache.fill("a");
+
+        fill.write(bytes(4));
+        fill.close();
+
+        assertNull(fill.commit());
+        assertNull(cache.get("a"));
+        assertEquals(0, listFiles().length);
+    }
+
+    @Test
+    public void replacesExistingEntry() throws IOException {
+        DiskCache cache = new DiskCache(directory, 100);
+
+        cache.put("a", new ByteArrayInputStream(bytes(10)));
+        cache.put("a", new ByteArrayInputStream(bytes(4)));
+
+        assertArrayEquals(bytes(4), Files.readAllBytes(cache.get("a").toPath()));
+        assertEquals(4L, cache.getStatistics().get("size"));
+    }
+
+    @Test
+    public void removesEntriesByPrefix() throws IOException {
+        DiskCache cache = new DiskCache(directory, 100);
+
+        cache.put("1_a", new ByteArrayInputStream(bytes(4)));
+        cache.put("1_b", new ByteArrayInputStream(bytes(4)));
+        cache.put("2_a", new ByteArrayInputStream(bytes(4)));
+
+        cache.removeByPrefix("1_");
+
+        assertNull(cache.get("1_a"));
+        assertNull(cache.get("1_b"));
+        assertNotNull(cache.get("2_a"));
+        assertEquals(4L, cache.getStatistics().get("size"));
+    }
+
+    @Test
+    public void loadsExistingEntriesAndDropsTempFiles() throws IOException {
+        new DiskCache(directory, 100).put("a", new ByteArrayInputStream(bytes(4)));
+        Files.write(new File(directory, "orphan.tmp").toPath(), bytes(4));
+
+        DiskCache cache = new DiskCache(directory, 100);
+
+        assertNotNull(cache.get("a"));
+        assertFalse(new File(directory, "orphan.tmp").exists());
+        assertEquals(1, cache.getStatistics().get("entries"));
+    }
+
+    @Test
+    public void dropsOnlyOwnTempFilesInSharedDirectory() throws IOException {
+        Files.write(new File(directory, "node-1-a.tmp").toPath(), bytes(4));
+        Files.write(new File(directory, "node-2-b.tmp").toPath(), bytes(4));
+
+        new DiskCache(directory, 100, "node-1");
+
+        assertFalse(new File(directory, "node-1-a.tmp").exists());
+        assertTrue(new File(directory, "node-2-b.tmp").exists());
+    }
+
+    @Test
+    public void evictsAgainstSizeSharedByAllNodes() throws IOException {
+        DiskCache first = new DiskCache(directory, 10, "node-1");
+        DiskCache second = new DiskCache(directory, 10, "node-2");
+
+        File a = first.put("a", new ByteArrayInputStream(bytes(6)));
+        assertTrue(a.setLastModified(System.currentTimeMillis() - 60000));
+
+        second.put("b", new ByteArrayInputStream(bytes(6)));
+
+        assertFalse(a.exists());
+        assertNull(first.get("a"));
+        assertNotNull(first.get("b"));
+        assertEquals(6L, second.getStatistics().get("size"));
+    }
+
+    private File[] listFiles() {
+        return directory.listFiles();
+    }
+
+    private byte[] bytes(final int length) {
+        byte[] bytes = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        return bytes;
+    }
+}
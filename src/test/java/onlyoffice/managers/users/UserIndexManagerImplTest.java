@@ -0,0 +1,149 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.managers.users;
+
+import com.atlassian.event.api.EventPublisher;
+import com.atlassian.sal.api.transaction.TransactionTemplate;
+import onlyoffice.managers.cache.AvatarCacheManager;
+import onlyoffice.sdk.manager.settings.SettingsManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class UserIndexManagerImplTest {
+    private UserIndexManagerImpl userIndexManager;
+
+    @Before
+    public void setUp() {
+        userIndexManager = new UserIndexManagerImpl(mock(EventPublisher.class), mock(TransactionTemplate.class),
+                mock(SettingsManager.class), mock(AvatarCacheManager.class));
+
+        userIndexManager.put(new UserIndexEntry("k1", "jsmith", "John Smith", "john@example.com", null));
+        userIndexManager.put(new UserIndexEntry("k2", "jdoe", "Joan Doe", null, "v2"));
+        userIndexManager.put(new UserIndexEntry("k3", "bob", "Bob Jones", null, null));
+    }
+
+    @Test
+    public void matchesPrefixOfAnyWord() {
+        assertSearch("jo", 3, "k2", "k1", "k3");
+        assertSearch("smi", 1, "k1");
+        assertSearch("doe", 1, "k2");
+    }
+
+    @Test
+    public void matchesPrefixOfUsername() {
+        assertSearch("jsm", 1, "k1");
+        assertSearch("jd", 1, "k2");
+    }
+
+    @Test
+    public void matchesFullNamePrefixAcrossWords() {
+        assertSearch("john s", 1, "k1");
+    }
+
+    @Test
+    public void ignoresCaseAndSurroundingWhitespace() {
+        assertSearch("  SMI ", 1, "k1");
+    }
+
+    @Test
+    public void returnsEachUserOnce() {
+        userIndexManager.put(new UserIndexEntry("k4", "john", "John Johnson", null, null));
+
+        assertSearch("john", 2, "k1", "k4");
+    }
+
+    @Test
+    public void returnsNothingForUnknownPrefix() {
+        assertSearch("zed", 0);
+    }
+
+    @Test
+    public void listsAllUsersByNameForEmptyQuery() {
+        assertSearch("", 3, "k3", "k2", "k1");
+        assertSearch(null, 3, "k3", "k2", "k1");
+    }
+
+    @Test
+    public void pagesResults() {
+        UserSearchResult result = userIndexManager.search("jo", 1, 1);
+
+        assertEquals(3, result.getTotal());
+        assertEquals(Arrays.asList("k1"), getKeys(result));
+    }
+
+    @Test
+    public void replacesTermsWhenUserChanges() {
+        userIndexManager.put(new UserIndexEntry("k1", "jsmith", "Jack Smith", null, null));
+
+        assertSearch("john", 0);
+        assertSearch("jack", 1, "k1");
+        assertSearch("", 3, "k3", "k1", "k2");
+    }
+
+    @Test
+    public void keepsAvatarVersionAndEmail() {
+        assertEquals("v2", userIndexManager.search("joan", 0, 1).getUsers().get(0).getAvatarVersion());
+        assertEquals("john@example.com", userIndexManager.search("john", 0, 1).getUsers().get(0).getEmail());
+    }
+
+    @Test
+    public void capsTotalOfLargeMatches() {
+        for (int i = 0; i < 1500; i++) {
+            userIndexManager.put(new UserIndexEntry("u" + i, "user" + i, "User " + i, null, null));
+        }
+
+        UserSearchResult result = userIndexManager.search("u", 10, 5);
+
+        assertEquals(1000, result.getTotal());
+        assertEquals(5, result.getUsers().size());
+    }
+
+    @Test
+    public void countsAllMatchesBeyondRequestedPage() {
+        for (int i = 0; i < 1500; i++) {
+            userIndexManager.put(new UserIndexEntry("u" + i, "user" + i, "User " + i, null, null));
+        }
+
+        assertEquals(1005, userIndexManager.search("u", 1000, 5).getTotal());
+    }
+
+    private void assertSearch(final String query, final int total, final String... keys) {
+        UserSearchResult result = userIndexManager.search(query, 0, 10);
+
+        assertEquals(total, result.getTotal());
+        assertEquals(Arrays.asList(keys), getKeys(result));
+    }
+
+    private List<String> getKeys(final UserSearchResult result) {
+        List<String> keys = new ArrayList<>();
+
+        for (UserIndexEntry entry : result.getUsers()) {
+            keys.add(entry.getKey());
+        }
+
+        return keys;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.sdk.manager.settings;
+
+import com.atlassian.sal.api.pluginsettings.PluginSettings;
+import com.atlassian.sal.api.pluginsettings.PluginSettingsFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SettingsManagerImplTest {
+    private PluginSettings pluginSettings;
+    private SettingsManagerImpl settingsManager;
+
+    @Before
+    public void setUp() {
+        PluginSettingsFactory pluginSettingsFactory = mock(PluginSettingsFactory.class);
+        pluginSettings = mock(PluginSettings.class);
+        when(pluginSettingsFactory.createGlobalSettings()).thenReturn(pluginSettings);
+
+        settingsManager = new SettingsManagerImpl(pluginSettingsFactory);
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty("onlyoffice.conversion.warm.enabled");
+        System.clearProperty("onlyoffice.conversion.warm.extensions");
+        System.clearProperty("onlyoffice.conversion.warm.threads");
+        System.clearProperty("onlyoffice.templates.spaceKey");
+    }
+
+    @Test
+    public void readsWarmerSettingsFromSystemProperties() {
+        assertFalse(settingsManager.getSettingBoolean("conversion.warm.enabled", false));
+        assertNull(settingsManager.getSetting("conversion.warm.extensions"));
+
+        System.setProperty("onlyoffice.conversion.warm.enabled", "true");
+        System.setProperty("onlyoffice.conversion.warm.extensions", "doc,xls");
+        System.setProperty("onlyoffice.conversion.warm.threads", "3");
+
+        assertTrue(settingsManager.getSettingBoolean("conversion.warm.enabled", false));
+        assertEquals("doc,xls", settingsManager.getSetting("conversion.warm.extensions"));
+        assertEquals(Integer.valueOf(3), settingsManager.getSettingInteger("conversion.warm.threads", 1));
+    }
+
+    @Test
+    public void readsTemplatesSpaceKeyFromSystemProperties() {
+        System.setProperty("onlyoffice.templates.spaceKey", "TPL");
+
+        assertEquals("TPL", settingsManager.getSetting("templates.spaceKey"));
+    }
+
+    @Test
+    public void prefersPluginSettingsOverSystemProperties() {
+        System.setProperty("onlyoffice.conversion.warm.enabled", "true");
+        when(pluginSettings.get("onlyoffice.conversion.warm.enabled")).thenReturn("false");
+
+        assertFalse(settingsManager.getSettingBoolean("conversion.warm.enabled", true));
+    }
+}
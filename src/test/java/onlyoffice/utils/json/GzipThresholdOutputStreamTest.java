@@ -0,0 +1,119 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.utils.json;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GzipThresholdOutputStreamTest {
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private HttpServletResponse response;
+
+    @Before
+    public void setUp() throws IOException {
+        response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(final int b) {
+                body.write(b);
+            }
+        });
+    }
+
+    @Test
+    public void writesSmallBodyUncompressed() throws IOException {
+        byte[] data = bytes(100);
+
+        try (GzipThresholdOutputStream outputStream = new GzipThresholdOutputStream(response, 100)) {
+            outputStream.write(data);
+        }
+
+        assertArrayEquals(data, body.toByteArray());
+        verify(response).setContentLength(100);
+        verify(response, never()).setHeader(anyString(), anyString());
+    }
+
+    @Test
+    public void compressesBodyAboveThreshold() throws IOException {
+        byte[] data = bytes(20000);
+
+        try (GzipThresholdOutputStream outputStream = new GzipThresholdOutputStream(response, 100)) {
+            outputStream.write(data, 0, 50);
+            outputStream.write(data[50]);
+            outputStream.write(data, 51, data.length - 51);
+        }
+
+        verify(response).setHeader("Content-Encoding", "gzip");
+        verify(response, never()).setContentLength(data.length);
+        assertArrayEquals(data, gunzip(body.toByteArray()));
+    }
+
+    @Test
+    public void closesOnlyOnce() throws IOException {
+        GzipThresholdOutputStream outputStream = new GzipThresholdOutputStream(response, 100);
+
+        outputStream.write(bytes(10));
+        outputStream.close();
+        outputStream.close();
+
+        assertArrayEquals(bytes(10), body.toByteArray());
+        verify(response).setContentLength(10);
+    }
+
+    private byte[] gunzip(final byte[] data) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return IOUtils.toByteArray(inputStream);
+        }
+    }
+
+    private byte[] bytes(final int length) {
+        byte[] bytes = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i % 31);
+        }
+
+        return bytes;
+    }
+}
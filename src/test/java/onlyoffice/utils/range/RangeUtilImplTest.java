@@ -0,0 +1,177 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.utils.range;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RangeUtilImplTest {
+    private static final long LENGTH = 1000L;
+    private static final String ETAG = "\"v1\"";
+    private static final long LAST_MODIFIED = 1700000000123L;
+
+    private final RangeUtil rangeUtil = new RangeUtilImpl();
+
+    @Test
+    public void returnsNullWithoutRangeHeader() {
+        assertNull(getRanges(null, null));
+    }
+
+    @Test
+    public void returnsNullForUnsupportedUnit() {
+        assertNull(getRanges("items=0-10", null));
+    }
+
+    @Test
+    public void parsesSingleRange() {
+        List<ByteRange> ranges = getRanges("bytes=0-99", null);
+
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), 0, 99);
+    }
+
+    @Test
+    public void parsesOpenEndedRange() {
+        List<ByteRange> ranges = getRanges("bytes=900-", null);
+
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), 900, 999);
+    }
+
+    @Test
+    public void parsesSuffixRange() {
+        List<ByteRange> ranges = getRanges("bytes=-100", null);
+
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), 900, 999);
+    }
+
+    @Test
+    public void clampsSuffixLongerThanFile() {
+        List<ByteRange> ranges = getRanges("bytes=-5000", null);
+
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), 0, 999);
+    }
+
+    @Test
+    public void clampsEndToFileLength() {
+        List<ByteRange> ranges = getRanges("bytes=500-5000", null);
+
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), 500, 999);
+    }
+
+    @Test
+    public void dropsRangesStartingBeyondFile() {
+        List<ByteRange> ranges = getRanges("bytes=1000-1100", null);
+
+        assertTrue(ranges.isEmpty());
+    }
+
+    @Test
+    public void coalescesOverlappingAndAdjacentRanges() {
+        List<ByteRange> ranges = getRanges("bytes=200-299, 0-99,100-149,250-400", null);
+
+        assertEquals(2, ranges.size());
+        assertRange(ranges.get(0), 0, 149);
+        assertRange(ranges.get(1), 200, 400);
+    }
+
+    @Test
+    public void keepsDisjointRangesSorted() {
+        List<ByteRange> ranges = getRanges("bytes=500-599,0-9", null);
+
+        assertEquals(2, ranges.size());
+        assertRange(ranges.get(0), 0, 9);
+        assertRange(ranges.get(1), 500, 599);
+    }
+
+    @Test
+    public void returnsNullForMalformedRanges() {
+        assertNull(getRanges("bytes=abc-10", null));
+        assertNull(getRanges("bytes=10", null));
+        assertNull(getRanges("bytes=-", null));
+        assertNull(getRanges("bytes=20-10", null));
+    }
+
+    @Test
+    public void returnsNullForTooManyRanges() {
+        StringBuilder header = new StringBuilder("bytes=");
+
+        for (int i = 0; i < 17; i++) {
+            header.append(i > 0 ? "," : "").append(i * 10).append('-').append(i * 10 + 1);
+        }
+
+        assertNull(getRanges(header.toString(), null));
+    }
+
+    @Test
+    public void honoursMatchingIfRangeETag() {
+        assertEquals(1, getRanges("bytes=0-9", ETAG).size());
+    }
+
+    @Test
+    public void ignoresRangeForStaleIfRangeETag() {
+        assertNull(getRanges("bytes=0-9", "\"v0\""));
+    }
+
+    @Test
+    public void comparesIfRangeDateInSeconds() {
+        HttpServletRequest request = mockRequest("bytes=0-9", "Tue, 14 Nov 2023 22:13:20 GMT");
+        when(request.getDateHeader("If-Range")).thenReturn(LAST_MODIFIED - LAST_MODIFIED % 1000);
+
+        assertEquals(1, rangeUtil.getRanges(request, LENGTH, ETAG, LAST_MODIFIED).size());
+
+        when(request.getDateHeader("If-Range")).thenReturn(LAST_MODIFIED - 1000);
+
+        assertNull(rangeUtil.getRanges(request, LENGTH, ETAG, LAST_MODIFIED));
+    }
+
+    @Test
+    public void formatsUnsatisfiableContentRange() {
+        assertEquals("bytes */1000", rangeUtil.getUnsatisfiableContentRange(LENGTH));
+    }
+
+    private List<ByteRange> getRanges(final String range, final String ifRange) {
+        return rangeUtil.getRanges(mockRequest(range, ifRange), LENGTH, ETAG, LAST_MODIFIED);
+    }
+
+    private HttpServletRequest mockRequest(final String range, final String ifRange) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+
+        when(request.getHeader("Range")).thenReturn(range);
+        when(request.getHeader("If-Range")).thenReturn(ifRange);
+
+        return request;
+    }
+
+    private void assertRange(final ByteRange range, final long start, final long end) {
+        assertEquals(start, range.getStart());
+        assertEquals(end, range.getEnd());
+    }
+}
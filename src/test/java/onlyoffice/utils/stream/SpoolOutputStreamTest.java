@@ -0,0 +1,153 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package onlyoffice.utils.stream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SpoolOutputStreamTest {
+    @Test
+    public void keepsSmallContentInMemory() throws IOException {
+        SpoolOutputStream spool = new SpoolOutputStream(16);
+        byte[] data = "hello".getBytes(StandardCharsets.UTF_8);
+
+        spool.write(data);
+
+        assertTrue(spool.isInMemory());
+        assertEquals(data.length, spool.getSize());
+        assertArrayEquals(data, read(spool));
+
+        spool.discard();
+    }
+
+    @Test
+    public void keepsContentOfThresholdSizeInMemory() throws IOException {
+        SpoolOutputStream spool = new SpoolOutputStream(8);
+
+        spool.write(bytes(8));
+
+        assertTrue(spool.isInMemory());
+        assertArrayEquals(bytes(8), read(spool));
+
+        spool.discard();
+    }
+
+    @Test
+    public void spillsToDiskAboveThreshold() throws IOException {
+        SpoolOutputStream spool = new SpoolOutputStream(8);
+        byte[] data = bytes(20);
+
+        spool.write(data, 0, 5);
+        spool.write(data, 5, 3);
+        assertTrue(spool.isInMemory());
+
+        spool.write(data[8]);
+        assertFalse(spool.isInMemory());
+
+        spool.write(data, 9, 11);
+
+        assertEquals(data.length, spool.getSize());
+        assertArrayEquals(data, read(spool));
+
+        spool.discard();
+    }
+
+    @Test
+    public void growsBufferBeyondInitialSize() throws IOException {
+        SpoolOutputStream spool = new SpoolOutputStream(100000);
+        byte[] data = bytes(50000);
+
+        for (int offset = 0; offset < data.length; offset += 1000) {
+            spool.write(data, offset, 1000);
+        }
+
+        assertTrue(spool.isInMemory());
+        assertArrayEquals(data, read(spool));
+
+        spool.discard();
+    }
+
+    @Test
+    public void discardDeletesSpilledFile() throws IOException {
+        Set<Path> before = getSpoolFiles();
+        SpoolOutputStream spool = new SpoolOutputStream(4);
+
+        spool.write(bytes(10));
+
+        Set<Path> spilled = getSpoolFiles();
+        spilled.removeAll(before);
+        assertEquals(1, spilled.size());
+
+        spool.discard();
+
+        assertFalse(Files.exists(spilled.iterator().next()));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsWritesAfterClose() throws IOException {
+        SpoolOutputStream spool = new SpoolOutputStream(16);
+
+        spool.close();
+        spool.write(1);
+    }
+
+    private byte[] read(final SpoolOutputStream spool) throws IOException {
+        try (InputStream inputStream = spool.getInputStream()) {
+            return IOUtils.toByteArray(inputStream);
+        }
+    }
+
+    private Set<Path> getSpoolFiles() throws IOException {
+        Set<Path> files = new HashSet<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(System.getProperty("java.io.tmpdir")),
+                "onlyoffice-spool*")) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+
+        return files;
+    }
+
+    private byte[] bytes(final int length) {
+        byte[] bytes = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        return bytes;
+    }
+}